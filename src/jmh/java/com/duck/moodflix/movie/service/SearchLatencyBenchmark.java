@@ -0,0 +1,104 @@
+package com.duck.moodflix.movie.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.duck.moodflix.config.ElasticsearchConfig;
+import com.duck.moodflix.movie.search.MovieDoc;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 지연 비교 (캐시를 거치지 않고 ES 직접 호출).
+ * - sequential: 정확 제목 term 조회 → 미스면 본 검색 (예전 방식, 왕복 최대 2회)
+ * - msearch: 두 질의를 _msearch 한 번으로 (현재 방식)
+ * 질의는 인기 영화 제목(정확 일치) + 제목 첫 단어(부분 일치). SampleTime 결과에 p50/p99 가 나옴.
+ * 앱 전체가 아니라 ES 클라이언트 설정만 띄움 (DB 불필요, 기동 리스너의 동기화 재개/재색인/outbox 등이 돌지 않음).
+ * 실행: ./gradlew jmh -PjmhIncludes=SearchLatency (spring.elasticsearch.* 의 ES 에 movies 색인이 있어야 함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchLatencyBenchmark {
+
+    /** ES 클라이언트 + 템플릿만 (컴포넌트 스캔/자동 설정 없음) */
+    @Configuration
+    @Import(ElasticsearchConfig.class)
+    static class EsOnly {
+        @Bean
+        ElasticsearchOperations elasticsearchTemplate(ElasticsearchClient client) {
+            return new ElasticsearchTemplate(client);
+        }
+    }
+
+    private final Pageable page = PageRequest.of(0, 20);
+
+    private ConfigurableApplicationContext ctx;
+    private ElasticsearchOperations esOps;
+    private List<String> queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ctx = new SpringApplicationBuilder(EsOnly.class).web(WebApplicationType.NONE).run();
+        esOps = ctx.getBean(ElasticsearchOperations.class);
+        queries = sampleQueries(esOps);
+        if (queries.isEmpty()) throw new IllegalStateException("no movies in index");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (ctx != null) ctx.close();
+    }
+
+    @Benchmark
+    public Object sequential() {
+        String q = nextQuery();
+        var exact = esOps.search(MovieSearchService.exactTitleQuery(q), MovieDoc.class);
+        return exact.getTotalHits() > 0 ? exact : esOps.search(MovieSearchService.fullQuery(q, page), MovieDoc.class);
+    }
+
+    @Benchmark
+    public Object msearch() {
+        String q = nextQuery();
+        return esOps.multiSearch(List.of(MovieSearchService.exactTitleQuery(q), MovieSearchService.fullQuery(q, page)), MovieDoc.class);
+    }
+
+    private String nextQuery() {
+        String q = queries.get(next);
+        next = (next + 1) % queries.size();
+        return q;
+    }
+
+    /** 인기순 상위 50편 제목 (색인에서 직접) */
+    private static List<String> sampleQueries(ElasticsearchOperations esOps) {
+        NativeQuery top = NativeQuery.builder()
+                .withQuery(qb -> qb.matchAll(m -> m))
+                .withPageable(PageRequest.of(0, 50))
+                .withSort(Sort.by(Sort.Order.desc("popularity")))
+                .build();
+        List<String> out = new ArrayList<>();
+        for (SearchHit<MovieDoc> hit : esOps.search(top, MovieDoc.class)) {
+            String title = hit.getContent().getTitle();
+            if (title == null || title.isBlank()) continue;
+            out.add(title);
+            String first = title.trim().split("\\s+")[0];
+            if (!first.equals(title.trim())) out.add(first);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,74 @@
+package com.duck.moodflix.movie.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HangulUtils 처리량 (검색 요청/색인 문서마다 호출되는 경로).
+ * legacy* 는 이전 구현(정규식 matches, toCharArray 복사)과의 비교용.
+ * 실행: ./gradlew jmh -PjmhIncludes=HangulUtils
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HangulUtilsBenchmark {
+
+    private static final char[] CHO = {'ㄱ','ㄲ','ㄴ','ㄷ','ㄸ','ㄹ','ㅁ','ㅂ','ㅃ','ㅅ','ㅆ','ㅇ','ㅈ','ㅉ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'};
+
+    @Param({"ㄱㅅㅊ", "ㄱ세", "기생충"})
+    public String query;
+
+    @Param({"기생충 (Parasite)"})
+    public String title;
+
+    private final StringBuilder buf = new StringBuilder(64);
+
+    @Benchmark
+    public boolean isChoseongQuery() {
+        return HangulUtils.isChoseongQuery(query);
+    }
+
+    @Benchmark
+    public boolean legacyIsChoseongQuery() {
+        return query.trim().matches("^[ㄱ-ㅎ]+$");
+    }
+
+    @Benchmark
+    public boolean isMixedChoseongQuery() {
+        return HangulUtils.isMixedChoseongQuery(query);
+    }
+
+    @Benchmark
+    public String toChoseongKey() {
+        return HangulUtils.toChoseongKey(title);
+    }
+
+    @Benchmark
+    public void appendChoseongKey(Blackhole bh) {
+        buf.setLength(0);
+        HangulUtils.appendChoseongKey(title, buf);
+        bh.consume(buf);
+    }
+
+    @Benchmark
+    public String legacyToChoseongKey() {
+        StringBuilder sb = new StringBuilder();
+        for (char ch : title.toCharArray()) {
+            if (ch >= 0xAC00 && ch <= 0xD7A3) sb.append(CHO[(ch - 0xAC00) / (21 * 28)]);
+            else if (Character.isLetterOrDigit(ch)) sb.append(Character.toLowerCase(ch));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public boolean matchesChoseongPrefix() {
+        return HangulUtils.matchesChoseongPrefix(title, 0, query);
+    }
+
+    @Benchmark
+    public String decompose() {
+        return HangulUtils.decompose(title);
+    }
+}
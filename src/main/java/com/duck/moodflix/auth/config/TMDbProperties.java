@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "tmdb")
 @Getter
@@ -16,4 +18,30 @@ public class TMDbProperties {
     private String bearerToken;
 
     private final String posterBaseUrl = "https://image.tmdb.org/t/p/w500";
+
+    /** TMDbClient 전역 토큰 버킷 설정 (tmdb.rate-limit.*) */
+    private final RateLimit rateLimit = new RateLimit();
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        /** 정상 상태 초당 요청 수 (동기화 + 상세 조회 합산) */
+        private double requestsPerSecond = 40;
+        /** 순간 허용 버스트 토큰 수 */
+        private int burst = 20;
+        /** 429 연속 수신 시 내려갈 수 있는 최저 초당 요청 수 */
+        private double minRequestsPerSecond = 4;
+    }
+
+    /** 상세 응답 로컬 캐시 설정 (tmdb.detail-cache.*) */
+    private final DetailCache detailCache = new DetailCache();
+
+    @Getter
+    @Setter
+    public static class DetailCache {
+        /** 적재 후 만료 시간 */
+        private Duration ttl = Duration.ofMinutes(30);
+        /** 최대 총 가중치 (KB 추정치 합계) */
+        private long maxWeightKb = 64 * 1024;
+    }
 }
@@ -35,6 +35,10 @@ public class ElasticsearchConfig {
     @Value("${spring.elasticsearch.password}")
     private String password;
 
+    /** 소켓 타임아웃 - 재색인 bulk 기준. 검색은 SearchCircuitBreaker 의 call-timeout 으로 따로 끊음 */
+    @Value("${moodflix.es.socket-timeout-ms:60000}")
+    private int socketTimeoutMs;
+
     /**
      * Low-level RestClient를 빈으로 등록 (종료 시 close)
      */
@@ -80,7 +84,7 @@ public class ElasticsearchConfig {
         return RestClient.builder(hosts)
                 .setRequestConfigCallback(rc -> rc
                         .setConnectTimeout(5_000)
-                        .setSocketTimeout(60_000)
+                        .setSocketTimeout(socketTimeoutMs)
                         .setConnectionRequestTimeout(2_000)
                 )
                 .setHttpClientConfigCallback(hc -> {
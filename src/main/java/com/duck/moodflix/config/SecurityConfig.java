@@ -52,7 +52,7 @@ public class SecurityConfig {
                         ))
                 ) // SecurityContext 유지
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.GET, "/api/movies", "/api/movies/{id}", "/api/movies/search").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/movies", "/api/movies/scroll", "/api/movies/feed/**", "/api/movies/{id}", "/api/movies/search", "/api/movies/search/filter", "/api/movies/suggest").permitAll()
                         .requestMatchers("/", "/index.html", "/error", "/favicon.ico",
                                 "/css/**", "/js/**", "/images/**", "/assets/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
@@ -3,18 +3,25 @@ package com.duck.moodflix.movie.client;
 import com.duck.moodflix.auth.config.TMDbProperties;
 import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
 import com.duck.moodflix.movie.dto.tmdb.TMDbMovieListResponse;
+import com.duck.moodflix.movie.dto.tmdb.changes.ChangesPageDto;
 import com.duck.moodflix.movie.dto.tmdb.reviews.ReviewsPageDto;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.net.URI;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Function;
 
 @Component
 @Slf4j
@@ -22,44 +29,31 @@ public class TMDbClient {
 
     private final WebClient webClient;
     private final TMDbProperties tmdbProperties;
+    private final TMDbRateLimiter rateLimiter;
 
     public TMDbClient(@Qualifier("tmdbWebClient") WebClient webClient,
-                      TMDbProperties tmdbProperties) {
+                      TMDbProperties tmdbProperties,
+                      TMDbRateLimiter rateLimiter) {
         this.webClient = webClient;
         this.tmdbProperties = tmdbProperties;
+        this.rateLimiter = rateLimiter;
     }
 
     /** 인기영화 페이지 조회 (언어: ko-KR) */
     public TMDbMovieListResponse getPopular(int page) {
-        return webClient.get()
-                .uri(b -> withApiKey(
+        return get("/movie/popular page=" + page,
+                b -> withApiKey(
                         b.path("/movie/popular")
                                 .queryParam("language", "ko-KR")
                                 .queryParam("page", page)
-                ))
-                .retrieve()
-                .onStatus(s -> s.value() == 429, rsp -> {
-                    log.warn("TMDb rate limited: GET /movie/popular page={}", page);
-                    return rsp.createException();
-                })
-                .onStatus(s -> s.is5xxServerError(), rsp -> rsp.createException())
-                .bodyToMono(TMDbMovieListResponse.class)
-                .retryWhen(Retry.backoff(3, Duration.ofMillis(500))
-                        .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests))
-                .timeout(Duration.ofSeconds(6))
-                .block();
+                ),
+                TMDbMovieListResponse.class);
     }
+
     public boolean hasKoreanTranslation(long tmdbId) {
-        JsonNode root = webClient.get()
-                .uri(b -> withApiKey(b.path("/movie/{id}/translations"), tmdbId))
-                .retrieve()
-                .onStatus(s -> s.value() == 429, rsp -> rsp.createException())
-                .onStatus(s -> s.is5xxServerError(), rsp -> rsp.createException())
-                .bodyToMono(JsonNode.class)
-                .retryWhen(Retry.backoff(3, Duration.ofMillis(500))
-                        .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests))
-                .timeout(Duration.ofSeconds(6))
-                .block();
+        JsonNode root = get("/movie/" + tmdbId + "/translations",
+                b -> withApiKey(b.path("/movie/{id}/translations"), tmdbId),
+                JsonNode.class);
 
         if (root == null || !root.has("translations")) return false;
         for (JsonNode t : root.get("translations")) {
@@ -82,8 +76,8 @@ public class TMDbClient {
 
     /** 상세(언어 지정) */
     public TMDbMovieDetailDto getMovieDetail(Long tmdbId, String language) {
-        return webClient.get()
-                .uri(b -> withApiKey(
+        return get("/movie/" + tmdbId + " detail",
+                b -> withApiKey(
                         b.path("/movie/{id}")
                                 .queryParam("language", language)
                                 .queryParam("append_to_response",
@@ -91,28 +85,14 @@ public class TMDbClient {
                                 .queryParam("reviews.page", 1)
                                 .queryParam("include_image_language", "ko,null,en")
                                 .queryParam("include_video_language", "ko,en,null"),
-                                tmdbId
-                ))
-                .retrieve()
-                .onStatus(s -> s.value() == 429, rsp -> {
-                    log.warn("TMDb rate limited: GET /movie/{} detail", tmdbId);
-                    return rsp.createException();
-                })
-                .onStatus(s -> s.is5xxServerError(), rsp -> rsp.createException())
-                .bodyToMono(TMDbMovieDetailDto.class)
-                .timeout(Duration.ofSeconds(6)) // 먼저 타임아웃
-                .retryWhen(
-                        Retry.backoff(3, Duration.ofMillis(500))
-                                .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests
-                                        || ex instanceof java.util.concurrent.TimeoutException)
-                )
-                .block(); // 명시적 블록 타임아웃
+                        tmdbId
+                ),
+                TMDbMovieDetailDto.class);
     }
 
-    // TMDbClient.java
     public TMDbMovieListResponse discoverByYear(int year, int page) {
-        return webClient.get()
-                .uri(b -> withApiKey(
+        return get("/discover/movie year=" + year + " page=" + page,
+                b -> withApiKey(
                         b.path("/discover/movie")
                                 .queryParam("sort_by", "popularity.desc")
                                 .queryParam("include_adult", false)
@@ -120,40 +100,58 @@ public class TMDbClient {
                                 .queryParam("language", "ko-KR")
                                 .queryParam("primary_release_year", year)
                                 .queryParam("page", page)
-                ))
-                 .retrieve()
-                 .onStatus(s -> s.value() == 429, rsp -> {
-                  log.warn("TMDb rate limited: GET /discover/movie year={} page={}", year, page);
-                   return rsp.createException();
-                })
-                .onStatus(s -> s.is5xxServerError(), rsp -> rsp.createException())
-                .bodyToMono(TMDbMovieListResponse.class)
-                .timeout(Duration.ofSeconds(6))
-                .retryWhen(
-                        Retry.backoff(3, Duration.ofMillis(500))
-                            .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests
-                                    || ex instanceof java.util.concurrent.TimeoutException)
-                )
-                .block();
+                ),
+                TMDbMovieListResponse.class);
     }
 
-
     /** 리뷰 페이지 조회 */
     public ReviewsPageDto getReviews(Long tmdbId, String lang, int page) {
-        return webClient.get()
-                .uri(b -> withApiKey(
+        return get("/movie/" + tmdbId + "/reviews",
+                b -> withApiKey(
                         b.path("/movie/{movieId}/reviews")
                                 .queryParam("language", lang)
                                 .queryParam("page", page),
                         tmdbId
-                ))
-                .retrieve()
-                .onStatus(s -> s.value() == 429, rsp -> rsp.createException())
-                .onStatus(s -> s.is5xxServerError(), rsp -> rsp.createException())
-                .bodyToMono(ReviewsPageDto.class)
+                ),
+                ReviewsPageDto.class);
+    }
+
+    /** 변경된 영화 id 목록 (기간은 최대 14일, 페이지당 100건) */
+    public ChangesPageDto getMovieChanges(LocalDate startDate, LocalDate endDate, int page) {
+        return get("/movie/changes " + startDate + "~" + endDate + " page=" + page,
+                b -> withApiKey(
+                        b.path("/movie/changes")
+                                .queryParam("start_date", startDate)
+                                .queryParam("end_date", endDate)
+                                .queryParam("page", page)
+                ),
+                ChangesPageDto.class);
+    }
+
+    /**
+     * 공통 GET.
+     * - 전송 직전에 전역 토큰 버킷에서 토큰 확보 (재시도도 매번 다시 확보 → 429 폭주 방지)
+     * - 429 응답 헤더(Retry-After)와 정상 응답의 X-RateLimit-* 헤더를 rate limiter 에 전달
+     * - 타임아웃은 실제 요청에만 적용 (토큰 대기 시간 제외)
+     */
+    private <T> T get(String label, Function<UriBuilder, URI> uri, Class<T> type) {
+        return Mono.defer(() -> rateLimiter.acquire()
+                        .then(webClient.get()
+                                .uri(uri)
+                                .retrieve()
+                                .onStatus(s -> s.value() == 429, rsp -> {
+                                    log.warn("TMDb rate limited: GET {}", label);
+                                    rateLimiter.onThrottled(rsp.headers().asHttpHeaders());
+                                    return rsp.createException();
+                                })
+                                .onStatus(HttpStatusCode::is5xxServerError, ClientResponse::createException)
+                                .toEntity(type)
+                                .timeout(Duration.ofSeconds(6))))
+                .doOnNext(entity -> rateLimiter.onResponse(entity.getHeaders()))
+                .mapNotNull(ResponseEntity::getBody)
                 .retryWhen(Retry.backoff(3, Duration.ofMillis(500))
-                        .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests))
-                .timeout(Duration.ofSeconds(6))
+                        .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests
+                                || ex instanceof java.util.concurrent.TimeoutException))
                 .block();
     }
 
@@ -0,0 +1,111 @@
+package com.duck.moodflix.movie.client;
+
+import com.duck.moodflix.auth.config.TMDbProperties;
+import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TMDb 상세 응답(append_to_response 포함) 로컬 캐시.
+ * - 키: (tmdbId, language), TTL + 응답 크기 추정치(KB) 기반 최대 가중치
+ * - 동시 미스는 첫 요청 스레드만 TMDb를 호출하고 나머지는 같은 future를 기다림 (request coalescing)
+ * - null/예외 결과는 캐시에 남지 않음
+ * - 메트릭: cache.gets{cache=tmdb.detail,result=hit|miss}, cache.evictions 등
+ */
+@Component
+public class TMDbDetailCache {
+
+    public record Key(Long tmdbId, String language) {}
+
+    private static final String DEFAULT_LANGUAGE = "ko-KR";
+
+    private final TMDbClient tmdb;
+    private final AsyncCache<Key, TMDbMovieDetailDto> cache;
+
+    public TMDbDetailCache(TMDbClient tmdb, TMDbProperties props, MeterRegistry registry) {
+        this.tmdb = tmdb;
+        TMDbProperties.DetailCache cfg = props.getDetailCache();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cfg.getTtl())
+                .maximumWeight(cfg.getMaxWeightKb())
+                .weigher((Key k, TMDbMovieDetailDto d) -> estimateKb(d))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "tmdb.detail");
+    }
+
+    public TMDbMovieDetailDto get(Long tmdbId) {
+        return get(tmdbId, DEFAULT_LANGUAGE);
+    }
+
+    public TMDbMovieDetailDto get(Long tmdbId, String language) {
+        // 미스일 때만 빈 future를 등록(hit/miss 통계 기록) → 잠금 밖에서 호출 스레드가 직접 적재
+        AtomicReference<CompletableFuture<TMDbMovieDetailDto>> created = new AtomicReference<>();
+        CompletableFuture<TMDbMovieDetailDto> f = cache.get(new Key(tmdbId, language), (k, executor) -> {
+            CompletableFuture<TMDbMovieDetailDto> loading = new CompletableFuture<>();
+            created.set(loading);
+            return loading;
+        });
+
+        CompletableFuture<TMDbMovieDetailDto> loading = created.get();
+        if (loading != null) {
+            try {
+                loading.complete(tmdb.getMovieDetail(tmdbId, language));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        return join(f);
+    }
+
+    /** 동기화로 새로 받은 응답을 미리 채워 둠 */
+    public void put(Long tmdbId, String language, TMDbMovieDetailDto detail) {
+        if (detail == null) return;
+        cache.put(new Key(tmdbId, language), CompletableFuture.completedFuture(detail));
+    }
+
+    /** 변경 감지(동기화) 시 해당 영화의 모든 언어 캐시 제거 */
+    public void invalidate(Long tmdbId) {
+        cache.asMap().keySet().removeIf(k -> k.tmdbId().equals(tmdbId));
+    }
+
+    private static TMDbMovieDetailDto join(CompletableFuture<TMDbMovieDetailDto> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /** 응답 크기(KB) 대략 추정: 리뷰 본문이 가장 크고, 인물/이미지/연관작 항목 수에 비례 */
+    static int estimateKb(TMDbMovieDetailDto d) {
+        if (d == null) return 1;
+        double kb = 2;
+        if (d.getCredits() != null) {
+            kb += 0.2 * (size(d.getCredits().cast()) + size(d.getCredits().crew()));
+        }
+        if (d.getImages() != null) {
+            kb += 0.15 * (size(d.getImages().posters()) + size(d.getImages().backdrops()));
+        }
+        if (d.getVideos() != null) kb += 0.2 * size(d.getVideos().results());
+        if (d.getReviews() != null) kb += 2.0 * size(d.getReviews().results());
+        if (d.getSimilar() != null) kb += 0.3 * size(d.getSimilar().results());
+        if (d.getRecommendations() != null) kb += 0.3 * size(d.getRecommendations().results());
+        if (d.getKeywords() != null) kb += 0.05 * size(d.getKeywords().keywords());
+        if (d.getOverview() != null) kb += d.getOverview().length() / 512.0;
+        return (int) Math.ceil(kb);
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+}
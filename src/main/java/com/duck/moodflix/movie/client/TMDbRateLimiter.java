@@ -0,0 +1,186 @@
+package com.duck.moodflix.movie.client;
+
+import com.duck.moodflix.auth.config.TMDbProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * TMDbClient 전역 토큰 버킷 (논블로킹).
+ * - 모든 TMDb 호출이 acquire()를 거친다 → 동기화 잡/상세 조회가 하나의 예산을 공유
+ * - 토큰이 없으면 음수로 "예약"하고 그만큼 Mono.delay → 스레드를 잡지 않고 순서대로 대기
+ * - 429 + Retry-After / X-RateLimit-* 헤더를 받으면 버킷을 일시 정지하고 속도를 절반으로 낮춤,
+ *   이후 성공 응답마다 조금씩 원래 속도로 회복 (AIMD)
+ * - 정지 중 예약한 호출도 정지 종료 시각 + 자기 순번만큼 기다림 → 정지가 풀릴 때 한꺼번에 몰리지 않음
+ */
+@Component
+@Slf4j
+public class TMDbRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration DEFAULT_PAUSE = Duration.ofSeconds(1);
+
+    private final double maxRate;
+    private final double minRate;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    // ---- 버킷 상태 (this 로 동기화) ----
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    private final Timer waitTimer;
+    private final Counter throttledCounter;
+    private final Counter requestCounter;
+
+    @Autowired
+    public TMDbRateLimiter(TMDbProperties props, MeterRegistry registry) {
+        this(props, registry, System::nanoTime);
+    }
+
+    /** 테스트용: 시계를 주입 */
+    TMDbRateLimiter(TMDbProperties props, MeterRegistry registry, LongSupplier nanoClock) {
+        TMDbProperties.RateLimit cfg = props.getRateLimit();
+        this.maxRate = Math.max(0.1, cfg.getRequestsPerSecond());
+        this.minRate = Math.min(maxRate, Math.max(0.1, cfg.getMinRequestsPerSecond()));
+        this.burst = Math.max(1, cfg.getBurst());
+        this.nanoClock = nanoClock;
+        this.rate = maxRate;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+
+        this.waitTimer = Timer.builder("tmdb.ratelimit.wait")
+                .description("TMDb 호출 전 토큰 대기 시간")
+                .register(registry);
+        this.throttledCounter = Counter.builder("tmdb.ratelimit.throttled")
+                .description("TMDb 429 응답 수")
+                .register(registry);
+        this.requestCounter = Counter.builder("tmdb.requests")
+                .description("토큰을 발급받은 TMDb 요청 수")
+                .register(registry);
+        Gauge.builder("tmdb.ratelimit.permits", this, TMDbRateLimiter::availablePermits)
+                .description("현재 사용 가능한 토큰 수 (음수면 대기열)")
+                .register(registry);
+        Gauge.builder("tmdb.ratelimit.rate", this, TMDbRateLimiter::currentRate)
+                .description("현재 적용 중인 초당 요청 수")
+                .register(registry);
+    }
+
+    /** 토큰 1개 확보 (필요 시 논블로킹 지연) */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            requestCounter.increment();
+            return waitNanos <= 0 ? Mono.<Void>empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /** 429 응답: Retry-After 만큼 버킷 정지 + 속도 절반 */
+    public void onThrottled(HttpHeaders headers) {
+        throttledCounter.increment();
+        Duration pause = retryAfter(headers);
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + pause.toNanos());
+            rate = Math.max(minRate, rate / 2);
+            tokens = Math.min(tokens, 0);
+        }
+        log.warn("TMDb throttled: pause={}ms, rate={}/s", pause.toMillis(), String.format("%.1f", currentRate()));
+    }
+
+    /** 정상 응답: X-RateLimit-Remaining=0 이면 Reset 까지 정지, 아니면 속도 조금씩 회복 */
+    public void onResponse(HttpHeaders headers) {
+        Long remaining = headerLong(headers, "X-RateLimit-Remaining");
+        synchronized (this) {
+            if (remaining != null && remaining <= 0) {
+                Long resetEpoch = headerLong(headers, "X-RateLimit-Reset");
+                long pauseMillis = (resetEpoch == null)
+                        ? DEFAULT_PAUSE.toMillis()
+                        : Math.max(0, resetEpoch * 1000 - System.currentTimeMillis());
+                pausedUntilNanos = Math.max(pausedUntilNanos,
+                        nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(pauseMillis));
+                return;
+            }
+            if (rate < maxRate) {
+                rate = Math.min(maxRate, rate + maxRate * 0.02);
+            }
+        }
+    }
+
+    public synchronized double availablePermits() {
+        refill(nanoClock.getAsLong());
+        return tokens;
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    /** 발급된 누적 요청 수 (동기화 진행률의 호출 수 계산용) */
+    public long issuedRequests() {
+        return (long) requestCounter.count();
+    }
+
+    /**
+     * 토큰 1개 예약 후 기다릴 시간(ns). 정지 중 토큰은 정지가 끝난 뒤부터 채워지므로
+     * 대기 = 남은 정지 시간 + 빚(음수 토큰) / 속도 → 예약 순서대로 1/rate 간격으로 풀림
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens -= 1;
+        long paused = Math.max(0, pausedUntilNanos - now);
+        long debt = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+        return paused + debt;
+    }
+
+    private void refill(long now) {
+        if (now < pausedUntilNanos) {
+            lastRefillNanos = Math.max(lastRefillNanos, now);
+            return;
+        }
+        long from = Math.max(lastRefillNanos, pausedUntilNanos);
+        if (now > from) {
+            tokens = Math.min(burst, tokens + (now - from) * rate / NANOS_PER_SECOND);
+        }
+        lastRefillNanos = now;
+    }
+
+    private static Duration retryAfter(HttpHeaders headers) {
+        String v = (headers == null) ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (v == null || v.isBlank()) return DEFAULT_PAUSE;
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(v.trim())));
+        } catch (NumberFormatException ignore) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration d = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return d.isNegative() ? Duration.ZERO : d;
+        } catch (Exception e) {
+            return DEFAULT_PAUSE;
+        }
+    }
+
+    private static Long headerLong(HttpHeaders headers, String name) {
+        String v = (headers == null) ? null : headers.getFirst(name);
+        if (v == null || v.isBlank()) return null;
+        try { return Long.parseLong(v.trim()); } catch (NumberFormatException e) { return null; }
+    }
+}
@@ -0,0 +1,24 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "moodflix.home-feed")
+@Getter
+@Setter
+public class HomeFeedProperties {
+
+    /** 목록(인기/평점/최신/장르별)마다 보관할 최대 영화 수 - 홈 화면은 앞쪽 몇 페이지만 봄 */
+    private int maxItems = 1000;
+
+    /** 변경 신호가 없어도 이 시간이 지나면 다시 만듦 (날짜가 바뀌어 새로 개봉한 영화 등) */
+    private Duration maxAge = Duration.ofHours(1);
+
+    /** 평점순 목록 최소 popularity - 투표 수 컬럼이 없어 소수 투표 10점 영화를 거르는 기준 */
+    private double topRatedMinPopularity = 5.0;
+}
@@ -0,0 +1,28 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "moodflix.index-outbox")
+@Getter
+@Setter
+public class IndexOutboxProperties {
+
+    /** 한 번에 꺼내 색인할 최대 행 수 */
+    private int batchSize = 500;
+
+    /** 워커 폴링 간격(ms) - @Scheduled 에서 직접 참조 */
+    private long pollMs = 2000;
+
+    /** 꺼낸 행의 점유 시간: 이 동안 다른 워커가 가져가지 않음 (배치 처리가 끝나기 전에 풀리지 않게 ES 타임아웃보다 길게) */
+    private Duration lease = Duration.ofMinutes(5);
+
+    /** 실패 시 재시도 대기: base * 2^(attempts-1), 최대 maxBackoff */
+    private Duration baseBackoff = Duration.ofSeconds(5);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+}
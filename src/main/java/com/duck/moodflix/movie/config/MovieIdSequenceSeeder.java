@@ -0,0 +1,47 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * movies.id 를 IDENTITY → SEQUENCE(movies_seq 테이블 에뮬레이션)로 바꾼 뒤,
+ * 시퀀스 값이 기존 최대 ID 보다 작으면 충돌하므로 기동 시 한 번 앞으로 당겨 둔다.
+ * (ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행 → 동기화 잡 재개 전에 보정됨)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class MovieIdSequenceSeeder implements ApplicationRunner {
+
+    /** Movie 의 @SequenceGenerator allocationSize 와 동일 */
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 실패하면 기동 중단: 시퀀스가 MAX(id) 아래면 동기화 INSERT 가 모두 PK 중복으로 실패함
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM movies", Long.class);
+            // pooled optimizer 는 읽은 값을 구간의 상한으로 사용 → 한 구간만큼 여유를 더 둔다
+            long floor = (maxId == null ? 0 : maxId) + 1 + ALLOCATION_SIZE;
+            Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies_seq", Integer.class);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update("INSERT INTO movies_seq (next_val) VALUES (?)", floor);
+                log.info("[MovieId] movies_seq initialized to {} (max id={})", floor, maxId);
+                return;
+            }
+            int updated = jdbcTemplate.update("UPDATE movies_seq SET next_val = ? WHERE next_val < ?", floor, floor);
+            if (updated > 0) log.info("[MovieId] movies_seq advanced to {} (max id={})", floor, maxId);
+        } catch (Exception e) {
+            throw new IllegalStateException("movies_seq seeding failed; refusing to start with an unsafe id sequence", e);
+        }
+    }
+}
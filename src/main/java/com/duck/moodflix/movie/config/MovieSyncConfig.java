@@ -0,0 +1,64 @@
+package com.duck.moodflix.movie.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class MovieSyncConfig {
+
+    /** 동기화 시 영화별 TMDb 조회를 fan-out 하는 고정 크기 풀 (크기 = moodflix.sync.concurrency) */
+    @Bean(name = "movieSyncExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService movieSyncExecutor(MovieSyncProperties props) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, props.getConcurrency()), r -> {
+            Thread t = new Thread(r, "tmdb-sync-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** 백그라운드 동기화 잡 실행기 (한 번에 잡 1개) */
+    @Bean(name = "syncJobExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService syncJobExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "sync-job");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** ES 색인 재빌드 실행기 (한 번에 1개, 동기화 잡과 분리) */
+    @Bean(name = "indexRebuildExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService indexRebuildExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "index-rebuild");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * ES 검색 호출 격벽 (SearchCircuitBreaker). 요청 스레드는 타임아웃까지만 기다림.
+     * 동시 호출 상한은 차단기의 세마포어(max-concurrent)가 정하고, 스레드 수도 같게 둠
+     * → 대기열에는 방금 끝난 스레드가 집어 갈 작업만 잠깐 머묾
+     */
+    @Bean(name = "esSearchExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService esSearchExecutor(SearchBreakerProperties props) {
+        AtomicInteger seq = new AtomicInteger();
+        int max = Math.max(1, props.getMaxConcurrent());
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(max, max, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "es-search-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
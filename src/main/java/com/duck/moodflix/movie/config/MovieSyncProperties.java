@@ -0,0 +1,16 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "moodflix.sync")
+@Getter
+@Setter
+public class MovieSyncProperties {
+
+    /** 영화별 TMDb 상세/번역/리뷰 조회를 동시에 수행할 워커 수 (1이면 순차 처리) */
+    private int concurrency = 8;
+}
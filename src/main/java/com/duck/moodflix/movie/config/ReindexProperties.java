@@ -0,0 +1,33 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "moodflix.reindex")
+@Getter
+@Setter
+public class ReindexProperties {
+
+    /** DB 에서 한 번에 읽는 행 수 (id keyset 청크) */
+    private int chunkSize = 500;
+
+    /** 문서 변환(키워드 조회 + 초성 키 + JSON 직렬화) 워커 수. 0 이하면 CPU 코어 수 */
+    private int buildWorkers = 0;
+
+    /** 동시에 ES 로 나가 있는 bulk 요청 최대 수 (ES write 스레드풀/큐 크기에 맞춰 조절) */
+    private int maxInFlightBulks = 2;
+
+    /** 429(es_rejected_execution) 재시도: base * 2^(n-1), 최대 maxRetryBackoff, 최대 maxRetries 회 */
+    private int maxRetries = 8;
+    private Duration retryBackoff = Duration.ofMillis(200);
+    private Duration maxRetryBackoff = Duration.ofSeconds(10);
+
+    public int effectiveBuildWorkers() {
+        return buildWorkers > 0 ? buildWorkers : Runtime.getRuntime().availableProcessors();
+    }
+}
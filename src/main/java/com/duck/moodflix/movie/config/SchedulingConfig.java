@@ -0,0 +1,10 @@
+package com.duck.moodflix.movie.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** 색인 outbox 워커 등 @Scheduled 작업 활성화 */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
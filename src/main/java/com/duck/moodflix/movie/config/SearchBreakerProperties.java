@@ -0,0 +1,42 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "moodflix.search-breaker")
+@Getter
+@Setter
+public class SearchBreakerProperties {
+
+    /** 실패율/지연율을 계산할 최근 호출 수 */
+    private int windowSize = 50;
+
+    /** 창에 이만큼 쌓이기 전에는 열지 않음 (기동 직후 한두 건 실패로 열리는 것 방지) */
+    private int minCalls = 20;
+
+    /** 실패(예외/타임아웃) 비율(%)이 이 값 이상이면 열림 */
+    private int failureRateThreshold = 50;
+
+    /** 이 시간보다 오래 걸린 호출은 느린 호출 */
+    private Duration slowCallThreshold = Duration.ofMillis(800);
+
+    /** 느린 호출 비율(%)이 이 값 이상이면 열림 */
+    private int slowCallRateThreshold = 80;
+
+    /** ES 호출 1건 대기 상한 - 넘으면 요청 스레드는 바로 DB 로 (소켓 타임아웃 60초를 기다리지 않음) */
+    private Duration callTimeout = Duration.ofSeconds(2);
+
+    /** 열린 뒤 반열림(시험 호출)까지 대기 */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /** 반열림 상태에서 보내 보는 시험 호출 수 (모두 성공하면 닫힘) */
+    private int halfOpenProbes = 3;
+
+    /** 동시에 진행 중인 ES 검색 상한 (넘으면 기다리지 않고 DB 로) */
+    private int maxConcurrent = 32;
+}
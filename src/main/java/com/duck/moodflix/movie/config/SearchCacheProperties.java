@@ -0,0 +1,27 @@
+package com.duck.moodflix.movie.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "moodflix.search-cache")
+@Getter
+@Setter
+public class SearchCacheProperties {
+
+    /** 검색 결과 캐시 최대 항목 수 ((질의, 페이지, 크기) 단위) */
+    private long maxEntries = 2000;
+
+    /**
+     * 세대 번호로 무효화되지 않더라도 이 시간이 지나면 만료.
+     * 세대 번호는 JVM 마다 따로라, 다른 인스턴스에서 색인한 변경이 이 인스턴스 캐시에 반영되기까지의 상한이기도 함
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /** 이 페이지 번호(0부터) 미만만 캐시 - 깊은 페이지는 재사용률이 낮음 */
+    private int maxPage = 5;
+}
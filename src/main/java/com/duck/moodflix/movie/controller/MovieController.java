@@ -1,15 +1,27 @@
 package com.duck.moodflix.movie.controller;
 
 import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.dto.MovieSearchFilter;
 import com.duck.moodflix.movie.dto.PageDto;
+import com.duck.moodflix.movie.dto.response.IndexRebuildResponse;
+import com.duck.moodflix.movie.dto.response.IndexReconcileResponse;
 import com.duck.moodflix.movie.dto.response.MovieDetailResponse;
+import com.duck.moodflix.movie.dto.response.MovieFacetSearchResponse;
+import com.duck.moodflix.movie.dto.response.MovieSuggestResponse;
 import com.duck.moodflix.movie.dto.response.MovieSummaryResponse;
+import com.duck.moodflix.movie.dto.response.MovieSummaryScrollResponse;
+import com.duck.moodflix.movie.dto.response.SyncJobResponse;
 import com.duck.moodflix.movie.repository.MovieRepository;
 import com.duck.moodflix.movie.search.MovieDoc;
+import com.duck.moodflix.movie.search.MovieSuggestIndex;
+import com.duck.moodflix.movie.service.HomeFeedService;
+import com.duck.moodflix.movie.service.IndexRebuildService;
+import com.duck.moodflix.movie.service.IndexReconcileService;
+import com.duck.moodflix.movie.service.MovieFacetSearchService;
 import com.duck.moodflix.movie.service.MovieIndexService;
 import com.duck.moodflix.movie.service.MovieQueryService;
 import com.duck.moodflix.movie.service.MovieSearchService;
-import com.duck.moodflix.movie.service.MovieSyncService;
+import com.duck.moodflix.movie.service.SyncJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,34 +45,72 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MovieController {
 
-    private final MovieSyncService syncService;
+    private final SyncJobService syncJobService;
     private final MovieQueryService queryService;
     private final MovieRepository movieRepository;
     private final MovieSearchService movieSearchService;
+    private final MovieFacetSearchService movieFacetSearchService;
     private final ElasticsearchOperations esOps;
     private final MovieIndexService movieIndexService;
+    private final IndexRebuildService indexRebuildService;
+    private final IndexReconcileService indexReconcileService;
+    private final MovieSuggestIndex suggestIndex;
+    private final HomeFeedService homeFeedService;
 
     @Operation(
             summary = "TMDb 영화 정보 동기화",
-            description = "TMDb의 인기 영화 **모든 페이지**를 순회하여 DB에 저장합니다. (ADMIN 역할만 접근 가능)"
+            description = "TMDb의 인기 영화 **모든 페이지**를 순회하는 백그라운드 잡을 시작합니다. 진행 상황은 /admin/sync/jobs/{id} 로 조회. (ADMIN 역할만 접근 가능)"
     )
     @SecurityRequirement(name = "Bearer Authentication")
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/admin/sync")
-    public ResponseEntity<String> syncMovies() {
-        int saved = syncService.syncAllPopular(); // ✅ 모든 페이지 동기화
-        return ResponseEntity.ok("Movie data synchronization completed. saved=" + saved);
+    public ResponseEntity<SyncJobResponse> syncMovies() {
+        return ResponseEntity.accepted().body(SyncJobResponse.from(syncJobService.startPopular()));
     }
 
-    @Operation(summary = "TMDb Discover 동기화(연도 범위)")
+    @Operation(
+            summary = "TMDb 변경분 증분 동기화",
+            description = "마지막 체크포인트 이후 TMDb 변경 피드에 올라온 영화 중 DB에 있는 영화만 다시 받아 갱신하는 백그라운드 잡을 시작합니다. 진행 상황은 /admin/sync/jobs/{id} 로 조회. (ADMIN 역할만 접근 가능)"
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/sync/changes")
+    public ResponseEntity<SyncJobResponse> syncChanges() {
+        return ResponseEntity.accepted().body(SyncJobResponse.from(syncJobService.startChanges()));
+    }
+
+    @Operation(summary = "TMDb Discover 동기화(연도 범위)", description = "백그라운드 잡으로 실행합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/sync/discover")
-    public ResponseEntity<String> syncDiscover(
+    public ResponseEntity<SyncJobResponse> syncDiscover(
             @RequestParam int fromYear,
             @RequestParam int toYear) {
-        int saved = syncService.syncDiscoverByYearRange(fromYear, toYear);
-        return ResponseEntity.ok("Discover sync done. saved=" + saved);
+        return ResponseEntity.accepted().body(SyncJobResponse.from(syncJobService.startDiscover(fromYear, toYear)));
+    }
+
+    @Operation(summary = "동기화 잡 목록(최근 20개)")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/sync/jobs")
+    public ResponseEntity<List<SyncJobResponse>> syncJobs() {
+        return ResponseEntity.ok(syncJobService.recent().stream().map(SyncJobResponse::from).toList());
+    }
+
+    @Operation(summary = "동기화 잡 진행 상황", description = "체크포인트, 처리량(영화/초, 영화당 TMDb 호출 수), 스킵 사유 분포")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/sync/jobs/{jobId}")
+    public ResponseEntity<SyncJobResponse> syncJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(SyncJobResponse.from(syncJobService.get(jobId)));
+    }
+
+    @Operation(summary = "동기화 잡 취소", description = "현재 페이지 처리 후 중단합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/sync/jobs/{jobId}/cancel")
+    public ResponseEntity<SyncJobResponse> cancelSyncJob(@PathVariable Long jobId) {
+        return ResponseEntity.accepted().body(SyncJobResponse.from(syncJobService.cancel(jobId)));
     }
 
 
@@ -81,13 +131,51 @@ public class MovieController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(
+            summary = "전체 영화 목록(요약) 조회 - 커서",
+            description = "id 순 keyset 페이지. 응답의 nextAfter 를 다음 요청의 after 로 넘깁니다. 깊은 페이지도 비용이 일정합니다."
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<MovieSummaryScrollResponse> scrollMovies(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeAdult) {
+        int s = Math.min(100, Math.max(1, size)); // 사이즈 가드 (1~100)
+        return ResponseEntity.ok(queryService.scrollMovieSummaries(after, s, includeAdult));
+    }
+
+    @Operation(
+            summary = "홈 화면 목록",
+            description = "popular(인기순) / top-rated(평점순) / newest(최신 개봉). 미리 계산된 목록이라 DB 를 조회하지 않습니다. 성인물 제외."
+    )
+    @GetMapping("/feed/{feed}")
+    public ResponseEntity<PageDto<MovieSummaryResponse>> feed(
+            @PathVariable String feed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        int p = Math.max(0, page);
+        int s = Math.min(100, Math.max(1, size)); // 사이즈 가드 (1~100)
+        return ResponseEntity.ok(PageDto.from(homeFeedService.feed(HomeFeedService.Feed.from(feed), PageRequest.of(p, s))));
+    }
+
+    @Operation(summary = "홈 화면 장르별 인기 목록", description = "장르명은 대소문자를 구분하지 않습니다. 성인물 제외.")
+    @GetMapping("/feed/genre/{genre}")
+    public ResponseEntity<PageDto<MovieSummaryResponse>> genreFeed(
+            @PathVariable String genre,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        int p = Math.max(0, page);
+        int s = Math.min(100, Math.max(1, size)); // 사이즈 가드 (1~100)
+        return ResponseEntity.ok(PageDto.from(homeFeedService.genreFeed(genre, PageRequest.of(p, s))));
+    }
+
     @Operation(summary = "영화 상세 조회")
     @GetMapping("/{id}")
     public ResponseEntity<MovieDetailResponse> getMovieById(@PathVariable Long id) {
         return ResponseEntity.ok(queryService.getMovieDetailResponse(id));
     }
 
-    @Operation(summary = "영화 검색", description = "제목/키워드/장르로 전체 텍스트 검색")
+    @Operation(summary = "영화 검색", description = "제목/키워드/장르로 전체 텍스트 검색. ES 장애 시 DB 검색으로 대체하고 degraded=true 로 표시")
     @GetMapping("/search")
     public ResponseEntity<PageDto<MovieDoc>> search(
             @RequestParam(required = false) String q,
@@ -97,8 +185,37 @@ public class MovieController {
         int p = Math.max(0, page);
         int s = Math.min(100, Math.max(1, size)); // 1~100 가드
         Pageable pageable = PageRequest.of(p, s);
-        Page<MovieDoc> resultPage = movieSearchService.search(q, pageable);
-        return ResponseEntity.ok(PageDto.from(resultPage));
+        MovieSearchService.SearchResult result = movieSearchService.searchWithFallback(q, pageable);
+        return ResponseEntity.ok(PageDto.from(result.page(), result.degraded()));
+    }
+
+    @Operation(
+            summary = "영화 필터 검색 (패싯)",
+            description = "장르/개봉 연도/평점/성인물 조건으로 검색합니다. 첫 페이지 응답에 장르·연도·평점 패싯 수가 포함되고, 다음 페이지는 nextCursor 를 cursor 로 넘겨 조회합니다."
+    )
+    @GetMapping("/search/filter")
+    public ResponseEntity<MovieFacetSearchResponse> searchFiltered(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) List<String> genre,
+            @RequestParam(required = false) Integer yearFrom,
+            @RequestParam(required = false) Integer yearTo,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Double maxRating,
+            @RequestParam(defaultValue = "false") boolean includeAdult,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        int s = Math.min(100, Math.max(1, size)); // 1~100 가드
+        MovieSearchFilter filter = new MovieSearchFilter(q, genre, yearFrom, yearTo, minRating, maxRating, includeAdult);
+        return ResponseEntity.ok(movieFacetSearchService.search(filter, s, cursor));
+    }
+
+    @Operation(summary = "영화 제목 자동완성", description = "제목(단어 시작 포함) 또는 초성 접두어로 인기순 상위 k개 제목을 반환합니다. ES를 거치지 않는 인메모리 조회")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MovieSuggestResponse>> suggest(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "10") int size) {
+        int k = Math.min(20, Math.max(1, size)); // 1~20 가드
+        return ResponseEntity.ok(suggestIndex.suggest(q, k).stream().map(MovieSuggestResponse::from).toList());
     }
 
     // 이미 DB에 들어있는 영화 색인 용도
@@ -107,15 +224,37 @@ public class MovieController {
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/reindex")
     public String reindex() {
-        int page = 0, batch = 500, total = 0;
-        while (true) {
-            var p = movieRepository.findAll(org.springframework.data.domain.PageRequest.of(page, batch));
-            if (!p.hasContent()) break;
-            movieIndexService.indexMovies(p.getContent());
-            total += p.getNumberOfElements();
-            page++;
-        }
-        return "reindexed: " + total;
+        return "reindexed: " + movieIndexService.reindexAll(movieRepository);
+    }
+
+    @Operation(
+            summary = "ES 색인 무중단 재빌드 (관리자 전용)",
+            description = "새 버전 인덱스(movies_v{n})를 만들어 DB 전체를 채우고, DB 와 대조해 어긋난 문서를 고친 뒤 별칭을 교체합니다. 재빌드 중에도 검색은 기존 인덱스로 처리됩니다."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/index/rebuild")
+    public ResponseEntity<IndexRebuildResponse> rebuildIndex() {
+        return ResponseEntity.accepted().body(indexRebuildService.start());
+    }
+
+    @Operation(
+            summary = "DB↔ES 정합성 검사 (관리자 전용)",
+            description = "id 구간별 체크섬을 비교해 누락/변경된 영화만 재색인 대기열에 넣고, DB에 없는 문서는 삭제합니다."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/admin/index/reconcile")
+    public IndexReconcileResponse reconcileIndex() {
+        return indexReconcileService.reconcile();
+    }
+
+    @Operation(summary = "ES 색인 재빌드 진행 상황 (관리자 전용)")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/index/rebuild")
+    public IndexRebuildResponse rebuildIndexStatus() {
+        return indexRebuildService.status();
     }
 
 
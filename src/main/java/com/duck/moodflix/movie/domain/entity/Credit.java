@@ -42,12 +42,16 @@ public class Credit {
     @Column(name = "character_name")
     private String characterName; // 배역 이름 (배우인 경우)
 
+    @Column(name = "cast_order")
+    private Integer castOrder; // 출연 순서 (TMDb cast.order, 크루는 null)
+
     @Builder
-    public Credit(Movie movie, Person person, String department, String job, String characterName) {
+    public Credit(Movie movie, Person person, String department, String job, String characterName, Integer castOrder) {
         this.movie = movie;
         this.person = person;
         this.department = department;
         this.job = job;
         this.characterName = characterName;
+        this.castOrder = castOrder;
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.duck.moodflix.movie.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ES 색인 대기열 (transactional outbox).
+ * 영화를 쓰는 트랜잭션 안에서 movie_id 를 적재 → 백그라운드 워커가 배치로 색인 후 삭제.
+ */
+@Entity
+@Table(
+        name = "index_outbox",
+        indexes = @Index(name = "idx_index_outbox_due", columnList = "next_attempt_at, id")
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IndexOutbox {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 실패 횟수 (백오프 계산용) */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 이 시각 이후에 처리 */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
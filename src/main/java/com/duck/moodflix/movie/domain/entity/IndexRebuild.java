@@ -0,0 +1,73 @@
+package com.duck.moodflix.movie.domain.entity;
+
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ES 색인 재빌드 이력 + 클러스터 단위 잠금.
+ * 실행 중인 행만 active_slot=1 (unique) → 여러 인스턴스가 동시에 시작해도 INSERT 하나만 성공.
+ * 실행 중인 인스턴스가 heartbeat_at 을 주기적으로 갱신하고, 오래 멈춘 행은 다른 인스턴스가 정리.
+ */
+@Entity
+@Table(
+        name = "index_rebuilds",
+        uniqueConstraints = @UniqueConstraint(name = "ux_index_rebuilds_active", columnNames = "active_slot")
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IndexRebuild {
+
+    /** 실행 중 표시 값 (끝나면 null → unique 제약에서 빠짐) */
+    public static final int ACTIVE = 1;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SyncJobStatus status;
+
+    @Column(name = "active_slot")
+    private Integer activeSlot;
+
+    @Column(length = 100)
+    private String previousIndex;
+
+    @Column(length = 100)
+    private String targetIndex;
+
+    /** 채우기 시작 시점 DB 영화 수 / bulk 로 보낸 문서 수 / 새 인덱스 문서 수 (검증 값) */
+    private long dbCount;
+    private long indexed;
+    private long esCount;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        heartbeatAt = startedAt;
+    }
+
+    public void finish(SyncJobStatus status, long dbCount, long indexed, long esCount, String errorMessage) {
+        this.status = status;
+        this.activeSlot = null;
+        this.dbCount = dbCount;
+        this.indexed = indexed;
+        this.esCount = esCount;
+        this.errorMessage = (errorMessage == null || errorMessage.length() <= 500)
+                ? errorMessage : errorMessage.substring(0, 500);
+        this.finishedAt = LocalDateTime.now();
+    }
+}
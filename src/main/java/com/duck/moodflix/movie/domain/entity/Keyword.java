@@ -7,7 +7,9 @@ import lombok.*;
 @Table(
         name = "keywords",
         indexes = {
-                @Index(name = "idx_keywords_name", columnList = "name")
+                @Index(name = "idx_keywords_name", columnList = "name"),
+                // 인스턴스 간 동시 생성도 정규화 이름당 한 행 (NULL = 정규화 전 중복 행, 유니크 대상 아님)
+                @Index(name = "ux_keywords_name_norm", columnList = "name_norm", unique = true)
         }
 )
 @Getter
@@ -23,4 +25,8 @@ public class Keyword {
 
     @Column(nullable = false, length = 200)
     private String name;
+
+    /** trim + lower(Locale.ROOT) 한 이름. 자바 정규화 값 그대로 비교하도록 바이너리 콜레이션 */
+    @Column(name = "name_norm", length = 200, columnDefinition = "VARCHAR(200) COLLATE utf8mb4_bin")
+    private String nameNorm;
 }
@@ -12,7 +12,11 @@ import java.util.Set;
 @Table(
         name = "movies",
         indexes = {
-                @Index(name = "idx_movies_tmdb_id", columnList = "tmdb_id", unique = true)
+                @Index(name = "idx_movies_tmdb_id", columnList = "tmdb_id", unique = true),
+                // 목록(성인물 제외) id 순 페이지: 인덱스 구간 스캔만으로 페이지 결정
+                @Index(name = "idx_movies_adult_id", columnList = "adult, id"),
+                // 인스턴스별 인메모리 인덱스가 DB 변경분을 따라잡는 keyset (updated_at, id)
+                @Index(name = "idx_movies_updated_at_id", columnList = "updated_at, id")
         }
 )
 @Getter
@@ -22,7 +26,13 @@ import java.util.Set;
 @Builder
 public class Movie {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * 시퀀스(pooled, 50개 단위 선할당) → persist 시 INSERT 없이 ID 확보, JDBC 배치 INSERT 가능.
+     * MySQL 에서는 movies_seq 테이블로 에뮬레이션 (기존 AUTO_INCREMENT 값 이후로 MovieIdSequenceSeeder 가 보정)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_seq")
+    @SequenceGenerator(name = "movie_seq", sequenceName = "movies_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "tmdb_id", nullable = false, unique = true)
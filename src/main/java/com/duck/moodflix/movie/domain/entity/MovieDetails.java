@@ -54,6 +54,14 @@ public class MovieDetails {
     private Long budget;
     private Long revenue;
 
+    /** 장르/비디오/이미지/연관작 압축 스냅샷(JSON, MovieDetailSnapshot) */
+    @Column(name = "snapshot_json", columnDefinition = "MEDIUMTEXT")
+    private String snapshotJson;
+
+    /** TMDb 에서 스냅샷을 마지막으로 받아온 시각 (상세 조회 시 신선도 판단) */
+    @Column(name = "snapshot_at")
+    private LocalDateTime snapshotAt;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -0,0 +1,38 @@
+package com.duck.moodflix.movie.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 검색용 비정규화 행 (영화 1건 = 1행, ES 장애 시 검색 경로).
+ * terms = 장르 + 키워드 이름 + 출연/제작진 이름을 공백으로 이은 값.
+ * title / (title, terms) 에 ngram FULLTEXT 인덱스 → JPA 로 선언할 수 없어 MovieSearchDocService 가 기동 시 생성.
+ */
+@Entity
+@Table(name = "movie_search_docs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MovieSearchDoc {
+
+    @Id
+    @Column(name = "movie_id")
+    private Long movieId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String terms;
+
+    @Column(nullable = false)
+    private boolean adult;
+
+    private Double popularity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
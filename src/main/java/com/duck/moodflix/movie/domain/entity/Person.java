@@ -30,4 +30,10 @@ public class Person {
         this.name = name;
         this.profileUrl = profileUrl;
     }
+
+    /** TMDb 최신 값으로 이름/프로필 갱신 */
+    public void refresh(String name, String profileUrl) {
+        if (name != null && !name.isBlank()) this.name = name;
+        if (profileUrl != null) this.profileUrl = profileUrl;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.duck.moodflix.movie.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 동기화(변경 피드)에서 오류로 갱신하지 못한 영화.
+ * 체크포인트는 이 행을 남긴 뒤에만 전진 → 다음 실행이 먼저 다시 시도하고, 성공하면 삭제.
+ */
+@Entity
+@Table(name = "sync_change_retries")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SyncChangeRetry {
+
+    @Id
+    @Column(name = "tmdb_id")
+    private Long tmdbId;
+
+    /** 재시도 실패 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_failed_at", nullable = false)
+    private LocalDateTime lastFailedAt;
+}
@@ -0,0 +1,37 @@
+package com.duck.moodflix.movie.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 증분 동기화 체크포인트.
+ * name 별로 "어디까지 반영했는지"를 저장 (예: tmdb-changes → 마지막으로 처리 완료한 날짜)
+ */
+@Entity
+@Table(name = "sync_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SyncCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /** 이 날짜(포함)까지의 변경분을 반영 완료 */
+    @Column(name = "synced_until")
+    private LocalDate syncedUntil;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
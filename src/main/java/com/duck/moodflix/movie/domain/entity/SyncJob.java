@@ -0,0 +1,125 @@
+package com.duck.moodflix.movie.domain.entity;
+
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobType;
+import com.duck.moodflix.movie.service.SyncStats;
+import com.duck.moodflix.movie.service.SyncStats.SkipReason;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 동기화 잡 + 체크포인트.
+ * 페이지가 끝날 때마다 다음 위치(nextYear/nextPage)와 누적 카운터를 저장 → 재시작 시 그 위치부터 재개.
+ * 실행 중인 잡은 active_slot=1 (unique, 클러스터에서 1개) + owner/lease_until 로 실행 인스턴스를 표시.
+ * cancel_requested / owner / lease_until 은 조건부 UPDATE 로만 바꾸고 엔티티 저장으로는 덮어쓰지 않음.
+ */
+@Entity
+@Table(
+        name = "sync_jobs",
+        indexes = @Index(name = "idx_sync_jobs_status", columnList = "status"),
+        uniqueConstraints = @UniqueConstraint(name = "ux_sync_jobs_active", columnNames = "active_slot")
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SyncJob {
+
+    /** 실행 중 표시 값 (끝나면 null → unique 제약에서 빠짐) */
+    public static final int ACTIVE = 1;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SyncJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SyncJobStatus status;
+
+    /** Discover 연도 범위 (POPULAR 는 null) */
+    private Integer fromYear;
+    private Integer toYear;
+
+    /** 체크포인트: 다음에 처리할 연도/페이지 */
+    private Integer nextYear;
+    @Builder.Default
+    private int nextPage = 1;
+
+    @Column(name = "active_slot")
+    private Integer activeSlot;
+
+    /** 실행 중인 인스턴스와 점유 만료 시각 (만료되면 다른 인스턴스가 이어받음) */
+    @Column(length = 100, updatable = false)
+    private String owner;
+
+    @Column(name = "lease_until", updatable = false)
+    private LocalDateTime leaseUntil;
+
+    @Builder.Default
+    @Column(updatable = false)
+    private boolean cancelRequested = false;
+
+    /** 누적 카운터 (SyncStats 와 동일 분류) */
+    private int processedCount;
+    private int savedCount;
+    private int existCount;
+    private int adultCount;
+    private int noKoCount;
+    private int noOverviewCount;
+    private int metaMissingCount;
+    private int errorCount;
+
+    /** 잡 실행 중 발생한 TMDb 호출 수 (동시 상세 조회 트래픽 포함 근사치) */
+    private long tmdbCalls;
+
+    /** 실제 실행 시간 합계(ms) - 재시작 공백 제외 */
+    private long activeMillis;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = startedAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 페이지 1개 처리 결과 반영 + 체크포인트 전진 */
+    public void record(SyncStats stats, long calls, long millis, Integer nextYear, int nextPage) {
+        processedCount += stats.total();
+        savedCount += stats.getSaved();
+        existCount += stats.skipped(SkipReason.EXIST);
+        adultCount += stats.skipped(SkipReason.ADULT);
+        noKoCount += stats.skipped(SkipReason.NO_KO);
+        noOverviewCount += stats.skipped(SkipReason.NO_OVERVIEW);
+        metaMissingCount += stats.skipped(SkipReason.META_MISSING);
+        errorCount += stats.skipped(SkipReason.ERROR);
+        tmdbCalls += calls;
+        activeMillis += millis;
+        this.nextYear = nextYear;
+        this.nextPage = nextPage;
+    }
+
+    public void finish(SyncJobStatus status, String errorMessage) {
+        this.status = status;
+        this.activeSlot = null;
+        this.errorMessage = (errorMessage == null || errorMessage.length() <= 500)
+                ? errorMessage : errorMessage.substring(0, 500);
+        this.finishedAt = LocalDateTime.now();
+    }
+}
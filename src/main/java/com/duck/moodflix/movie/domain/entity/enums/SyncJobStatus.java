@@ -0,0 +1,8 @@
+package com.duck.moodflix.movie.domain.entity.enums;
+
+public enum SyncJobStatus {
+    RUNNING,    // 실행 중 (재시작 시 체크포인트부터 재개)
+    COMPLETED,  // 정상 종료
+    CANCELLED,  // 취소 요청으로 중단
+    FAILED      // 예외로 중단
+}
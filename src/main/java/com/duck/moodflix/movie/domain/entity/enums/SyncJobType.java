@@ -0,0 +1,7 @@
+package com.duck.moodflix.movie.domain.entity.enums;
+
+public enum SyncJobType {
+    POPULAR,  // 인기 영화 전체 페이지
+    DISCOVER, // 연도 범위 Discover
+    CHANGES   // 변경 피드 증분 갱신 (재개 위치는 sync_checkpoints)
+}
@@ -0,0 +1,19 @@
+package com.duck.moodflix.movie.dto;
+
+import com.duck.moodflix.movie.dto.response.MovieDetailResponse;
+
+import java.util.List;
+
+/**
+ * movie_details.snapshot_json 에 저장하는 상세 화면용 압축 스냅샷.
+ * TMDb append_to_response 중 화면에 노출하는 항목만, 이미 잘라낸(limit) 형태로 보관한다.
+ * (출연/제작진은 credits/persons 테이블에 정규화해서 저장)
+ */
+public record MovieDetailSnapshot(
+        List<String> genres,
+        List<MovieDetailResponse.VideoItem> videos,
+        List<MovieDetailResponse.ImageItem> posters,
+        List<MovieDetailResponse.ImageItem> backdrops,
+        List<MovieDetailResponse.RelatedItem> similar,
+        List<MovieDetailResponse.RelatedItem> recommendations
+) {}
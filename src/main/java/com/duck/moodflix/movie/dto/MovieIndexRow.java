@@ -0,0 +1,47 @@
+package com.duck.moodflix.movie.dto;
+
+import com.duck.moodflix.movie.domain.entity.Movie;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.CRC32;
+
+/**
+ * ES 색인용 영화 행 (MovieDoc 에 들어가는 컬럼만).
+ * 재색인은 엔티티 대신 이 프로젝션을 id keyset 으로 읽어 영속성 컨텍스트에 쌓이지 않게 한다.
+ */
+public record MovieIndexRow(
+        Long id,
+        Long tmdbId,
+        String title,
+        String posterUrl,
+        String genre,
+        boolean adult,
+        LocalDate releaseDate,
+        Double popularity,
+        Double voteAverage,
+        LocalDateTime updatedAt
+) {
+    /**
+     * MySQL 쪽 같은 값: CRC32(CONCAT(id, ':', COALESCE(DATE_FORMAT(updated_at, '%Y%m%d%H%i%s'), '0')))
+     * 초 단위 문자열이라 타임존/소수초 정밀도 차이가 없음. 두 식은 항상 같이 바꿀 것.
+     */
+    public static final String SYNC_HASH_SQL =
+            "CRC32(CONCAT(id, ':', COALESCE(DATE_FORMAT(updated_at, '%Y%m%d%H%i%s'), '0')))";
+
+    private static final DateTimeFormatter HASH_TS = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    public static MovieIndexRow of(Movie m) {
+        return new MovieIndexRow(m.getId(), m.getTmdbId(), m.getTitle(), m.getPosterUrl(), m.getGenre(),
+                m.isAdult(), m.getReleaseDate(), m.getPopularity(), m.getVoteAverage(), m.getUpdatedAt());
+    }
+
+    public long syncHash() {
+        CRC32 crc = new CRC32();
+        String key = id + ":" + (updatedAt == null ? "0" : updatedAt.format(HASH_TS));
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,27 @@
+package com.duck.moodflix.movie.dto;
+
+import java.util.List;
+
+/**
+ * 구조화 검색 조건 (모든 항목 선택). ES filter 절로만 쓰여 점수 계산 없이 캐시됨.
+ * q 가 비어 있으면 인기순 목록 + 필터.
+ */
+public record MovieSearchFilter(
+        String q,
+        List<String> genres,   // OR (genre.keyword)
+        Integer yearFrom,      // 개봉 연도 (포함)
+        Integer yearTo,
+        Double minRating,      // voteAverage (포함)
+        Double maxRating,
+        boolean includeAdult
+) {
+    public MovieSearchFilter {
+        q = q == null ? "" : q.trim();
+        genres = genres == null ? List.of()
+                : genres.stream().filter(g -> g != null && !g.isBlank()).map(String::trim).distinct().toList();
+    }
+
+    public boolean hasQuery() {
+        return !q.isEmpty();
+    }
+}
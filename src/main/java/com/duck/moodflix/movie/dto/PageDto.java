@@ -8,14 +8,20 @@ public record PageDto<T>(
         List<T> content,
         int page, int size,
         long totalElements, int totalPages,
-        boolean first, boolean last
+        boolean first, boolean last,
+        boolean degraded // 주 검색(ES) 대신 대체 경로(DB)로 만든 결과
 ) {
     public static <T> PageDto<T> from(Page<T> p) {
+        return from(p, false);
+    }
+
+    public static <T> PageDto<T> from(Page<T> p, boolean degraded) {
         return new PageDto<>(
                 p.getContent(),
                 p.getNumber(), p.getSize(),
                 p.getTotalElements(), p.getTotalPages(),
-                p.isFirst(), p.isLast()
+                p.isFirst(), p.isLast(),
+                degraded
         );
     }
 }
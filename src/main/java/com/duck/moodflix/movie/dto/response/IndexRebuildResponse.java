@@ -0,0 +1,27 @@
+package com.duck.moodflix.movie.dto.response;
+
+import com.duck.moodflix.movie.domain.entity.IndexRebuild;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+
+import java.time.LocalDateTime;
+
+/** ES 색인 재빌드(새 버전 인덱스 → 별칭 교체) 진행 상황 */
+public record IndexRebuildResponse(
+        Long id,
+        SyncJobStatus status,
+        String previousIndex,
+        String targetIndex,
+        long dbCount,     // 채우기 시작 시점 DB 영화 수
+        long indexed,     // bulk 로 보낸 문서 수
+        long esCount,     // 새 인덱스 문서 수 (검증 값)
+        String errorMessage,
+        LocalDateTime startedAt,
+        LocalDateTime heartbeatAt,
+        LocalDateTime finishedAt
+) {
+    public static IndexRebuildResponse from(IndexRebuild r) {
+        return new IndexRebuildResponse(r.getId(), r.getStatus(), r.getPreviousIndex(), r.getTargetIndex(),
+                r.getDbCount(), r.getIndexed(), r.getEsCount(), r.getErrorMessage(),
+                r.getStartedAt(), r.getHeartbeatAt(), r.getFinishedAt());
+    }
+}
@@ -0,0 +1,15 @@
+package com.duck.moodflix.movie.dto.response;
+
+/** DB↔ES 정합성 검사 결과 (버킷 비교 후 어긋난 버킷만 id 단위로 대조) */
+public record IndexReconcileResponse(
+        int buckets,            // 비교한 id 구간 수
+        int mismatchedBuckets,  // 개수/체크섬이 다른 구간 수
+        int missing,            // DB 에만 있음 → outbox 적재
+        int stale,              // 양쪽에 있으나 updatedAt 다름 → outbox 적재
+        int extra,              // ES 에만 있음 → 문서 삭제
+        long tookMs
+) {
+    public boolean inSync() {
+        return mismatchedBuckets == 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.duck.moodflix.movie.dto.response;
+
+import com.duck.moodflix.movie.search.MovieDoc;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "필터 검색 응답 (search_after 커서 페이지 + 패싯 집계)")
+public record MovieFacetSearchResponse(
+        List<MovieDoc> content,
+        @Schema(description = "조건에 맞는 전체 문서 수") long totalElements,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor,
+        Facets facets
+) {
+    /** 장르는 장르 필터를 뺀 나머지 조건 기준, 연도/평점은 전체 조건 기준 문서 수 */
+    public record Facets(List<Bucket> genres, List<Bucket> years, List<Bucket> ratings) {
+        public static final Facets EMPTY = new Facets(List.of(), List.of(), List.of());
+    }
+
+    public record Bucket(String key, long count) {}
+}
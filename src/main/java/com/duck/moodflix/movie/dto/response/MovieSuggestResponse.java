@@ -0,0 +1,14 @@
+package com.duck.moodflix.movie.dto.response;
+
+import com.duck.moodflix.movie.search.MovieSuggestIndex;
+
+/** 자동완성 항목 */
+public record MovieSuggestResponse(
+        Long id,
+        String title,
+        String posterUrl
+) {
+    public static MovieSuggestResponse from(MovieSuggestIndex.Entry e) {
+        return new MovieSuggestResponse(e.id(), e.title(), e.posterUrl());
+    }
+}
@@ -0,0 +1,12 @@
+package com.duck.moodflix.movie.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "영화 요약 목록 (keyset 커서 페이지)")
+public record MovieSummaryScrollResponse(
+        List<MovieSummaryResponse> content,
+        @Schema(description = "다음 페이지 요청 시 after 로 넘길 값 (마지막 페이지면 null)") Long nextAfter,
+        @Schema(description = "전체 개수 (최대 1분 지난 캐시 값)") long totalElements
+) {}
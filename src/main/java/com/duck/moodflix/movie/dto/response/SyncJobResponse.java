@@ -0,0 +1,59 @@
+package com.duck.moodflix.movie.dto.response;
+
+import com.duck.moodflix.movie.domain.entity.SyncJob;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobType;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 동기화 잡 진행 상황 (체크포인트 + 처리량 + 스킵 사유 분포) */
+public record SyncJobResponse(
+        Long id,
+        SyncJobType type,
+        SyncJobStatus status,
+        boolean cancelRequested,
+        Integer fromYear,
+        Integer toYear,
+        Integer nextYear,
+        int nextPage,
+        int processed,
+        int saved,
+        Map<String, Integer> skips,
+        long tmdbCalls,
+        double moviesPerSecond,   // 처리(저장+스킵)한 영화 수 / 실행 시간
+        double tmdbCallsPerMovie, // TMDb 호출 수 / 처리한 영화 수
+        long activeSeconds,
+        String errorMessage,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {
+    public static SyncJobResponse from(SyncJob j) {
+        Map<String, Integer> skips = new LinkedHashMap<>();
+        skips.put("exist", j.getExistCount());
+        skips.put("adult", j.getAdultCount());
+        skips.put("noKo", j.getNoKoCount());
+        skips.put("noOverview", j.getNoOverviewCount());
+        skips.put("metaMissing", j.getMetaMissingCount());
+        skips.put("error", j.getErrorCount());
+
+        double secs = j.getActiveMillis() / 1000.0;
+        return new SyncJobResponse(
+                j.getId(), j.getType(), j.getStatus(), j.isCancelRequested(),
+                j.getFromYear(), j.getToYear(), j.getNextYear(), j.getNextPage(),
+                j.getProcessedCount(), j.getSavedCount(), skips,
+                j.getTmdbCalls(),
+                secs <= 0 ? 0 : round2(j.getProcessedCount() / secs),
+                j.getProcessedCount() == 0 ? 0 : round2((double) j.getTmdbCalls() / j.getProcessedCount()),
+                (long) secs,
+                j.getErrorMessage(),
+                j.getStartedAt(), j.getUpdatedAt(), j.getFinishedAt()
+        );
+    }
+
+    private static double round2(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+}
@@ -0,0 +1,3 @@
+package com.duck.moodflix.movie.dto.tmdb.changes;
+
+public record ChangedMovieDto(Long id, Boolean adult) {}
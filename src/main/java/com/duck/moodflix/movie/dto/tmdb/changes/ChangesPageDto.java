@@ -0,0 +1,10 @@
+package com.duck.moodflix.movie.dto.tmdb.changes;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** TMDb /movie/changes 응답 (변경된 영화 id 목록, 페이지당 100건) */
+public record ChangesPageDto(
+        Integer page,
+        java.util.List<ChangedMovieDto> results,
+        @JsonProperty("total_pages") Integer totalPages,
+        @JsonProperty("total_results") Integer totalResults
+) {}
@@ -1,8 +1,13 @@
 package com.duck.moodflix.movie.mapper;
 
+import com.duck.moodflix.movie.domain.entity.Credit;
 import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.domain.entity.MovieDetails;
+import com.duck.moodflix.movie.dto.MovieDetailSnapshot;
 import com.duck.moodflix.movie.dto.response.MovieDetailResponse;
 import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
+import com.duck.moodflix.movie.dto.tmdb.credits.CastDto;
+import com.duck.moodflix.movie.dto.tmdb.credits.CrewDto;
 import com.duck.moodflix.movie.util.CertificationExtractor;
 import com.duck.moodflix.movie.util.ImageUrlResolver;
 import lombok.RequiredArgsConstructor;
@@ -15,18 +20,18 @@ import java.util.*;
 @RequiredArgsConstructor
 public class MovieDetailAssembler {
 
+    /** 상세 화면에 노출하는 핵심 크루 직책 */
+    public static final Set<String> CORE_CREW_JOBS = Set.of("Director", "Writer", "Screenplay", "Producer",
+            "Executive Producer", "Editor", "Cinematography", "Original Music Composer");
+
     private final ImageUrlResolver img;
     private final CertificationExtractor cert;
 
+    /** TMDb 실시간 응답 기반 조립 */
     public MovieDetailResponse assemble(Movie m, TMDbMovieDetailDto d) {
 
-        List<String> genres = (d != null && d.getGenres() != null)
-                ? d.getGenres().stream().map(g -> g.name()).filter(Objects::nonNull).toList()
-                : List.of();
-
-        List<String> keywords = m.getMovieKeywords().stream()
-                .map(mk -> mk.getKeyword().getName())
-                .filter(Objects::nonNull).distinct().toList();
+        MovieDetailSnapshot snap = toSnapshot(d);
+        List<String> keywords = keywordsOf(m);
 
         // 국가/등급
         String countryCode = null, countryName = null;
@@ -37,56 +42,17 @@ public class MovieDetailAssembler {
         }
         String certification = (d != null) ? cert.extract(d) : null;
 
-        // 비디오/이미지
-        var videos = (d == null || d.getVideos() == null || d.getVideos().results() == null) ? List.<MovieDetailResponse.VideoItem>of()
-                : d.getVideos().results().stream().limit(8)
-                .map(v -> new MovieDetailResponse.VideoItem(v.name(), v.key(), v.site(), v.type()))
-                .toList();
-
-        var posters = (d == null || d.getImages() == null || d.getImages().posters() == null) ? List.<MovieDetailResponse.ImageItem>of()
-                : d.getImages().posters().stream().limit(12)
-                .map(i -> new MovieDetailResponse.ImageItem(
-                        img.w500(i.filePath()), i.width(), i.height(), i.aspectRatio()))
-                .toList();
-
-        var backdrops = (d == null || d.getImages() == null || d.getImages().backdrops() == null) ? List.<MovieDetailResponse.ImageItem>of()
-                : d.getImages().backdrops().stream().limit(12)
-                .map(i -> new MovieDetailResponse.ImageItem(
-                        img.w780(i.filePath()), i.width(), i.height(), i.aspectRatio()))
-                .toList();
-
         // 출연/크루
-        var castTop = (d == null || d.getCredits() == null || d.getCredits().cast() == null) ? List.<MovieDetailResponse.CastItem>of()
-                : d.getCredits().cast().stream()
-                .sorted(Comparator.comparingInt(c -> c.order() == null ? 999 : c.order()))
-                .limit(10)
+        var castTop = selectCast(d).stream()
                 .map(c -> new MovieDetailResponse.CastItem(
                         c.name(), c.character(), img.w185(c.profilePath()), c.order()))
                 .toList();
 
-        Set<String> core = Set.of("Director", "Writer", "Screenplay", "Producer", "Executive Producer",
-                "Editor", "Cinematography", "Original Music Composer");
-        var crewCore = (d == null || d.getCredits() == null || d.getCredits().crew() == null) ? List.<MovieDetailResponse.CrewItem>of()
-                : d.getCredits().crew().stream()
-                .filter(c -> c.job() != null && core.contains(c.job()))
-                .limit(12)
+        var crewCore = selectCrew(d).stream()
                 .map(c -> new MovieDetailResponse.CrewItem(
                         c.name(), c.job(), img.w185(c.profilePath())))
                 .toList();
 
-        // 연관작 (both need LocalDate)
-        var similar = (d == null || d.getSimilar() == null || d.getSimilar().results() == null) ? List.<MovieDetailResponse.RelatedItem>of()
-                : d.getSimilar().results().stream().limit(10)
-                .map(r -> new MovieDetailResponse.RelatedItem(
-                        r.id(), r.title(), img.w342(r.posterPath()), safeLocal(r.releaseDate())))
-                .toList();
-
-        var recs = (d == null || d.getRecommendations() == null || d.getRecommendations().results() == null) ? List.<MovieDetailResponse.RelatedItem>of()
-                : d.getRecommendations().results().stream().limit(10)
-                .map(r -> new MovieDetailResponse.RelatedItem(
-                        r.id(), r.title(), img.w342(r.posterPath()), safeLocal(r.releaseDate())))
-                .toList();
-
         return new MovieDetailResponse(
                 // 기본
                 m.getId(),
@@ -100,7 +66,7 @@ public class MovieDetailAssembler {
                 d == null ? null : d.getRuntime(),
 
                 // 분류/태그
-                genres,
+                snap.genres(),
                 keywords,
 
                 // 국가/등급
@@ -116,17 +82,134 @@ public class MovieDetailAssembler {
                 d == null ? null : d.getRevenue(),
 
                 // 미디어/인물/연관 (리뷰는 QueryService에서 폴백/합성)
-                videos,
-                posters,
-                backdrops,
+                snap.videos(),
+                snap.posters(),
+                snap.backdrops(),
                 castTop,
                 crewCore,
-                similar,
-                recs,
+                snap.similar(),
+                snap.recommendations(),
                 List.of() // reviewsTop
         );
     }
 
+    /** DB 저장 스냅샷 기반 조립 (TMDb 호출 없음) */
+    public MovieDetailResponse assemble(Movie m, MovieDetails det, MovieDetailSnapshot snap, List<Credit> credits) {
+        MovieDetailSnapshot s = (snap != null) ? snap : toSnapshot(null);
+        List<Credit> cs = (credits == null) ? List.of() : credits;
+
+        var castTop = cs.stream()
+                .filter(c -> c.getCastOrder() != null)
+                .sorted(Comparator.comparingInt(Credit::getCastOrder))
+                .map(c -> new MovieDetailResponse.CastItem(
+                        c.getPerson().getName(), c.getCharacterName(), c.getPerson().getProfileUrl(), c.getCastOrder()))
+                .toList();
+
+        var crewCore = cs.stream()
+                .filter(c -> c.getCastOrder() == null)
+                .map(c -> new MovieDetailResponse.CrewItem(
+                        c.getPerson().getName(), c.getJob(), c.getPerson().getProfileUrl()))
+                .toList();
+
+        return new MovieDetailResponse(
+                m.getId(),
+                m.getTmdbId(),
+                m.getTitle(),
+                det.getOriginalTitle(),
+                det.getStatus(),
+                m.getOverview(),
+                m.getPosterUrl(),
+                m.getReleaseDate(),
+                det.getRuntime(),
+
+                s.genres(),
+                keywordsOf(m),
+
+                det.getCountryCode(),
+                det.getCountryName(),
+                det.getCertification(),
+
+                m.getVoteAverage(),
+                det.getVoteCount(),
+                det.getPopularity(),
+                det.getBudget(),
+                det.getRevenue(),
+
+                s.videos(),
+                s.posters(),
+                s.backdrops(),
+                castTop,
+                crewCore,
+                s.similar(),
+                s.recommendations(),
+                List.of() // reviewsTop
+        );
+    }
+
+    /** 장르/비디오/이미지/연관작을 화면 노출 개수만큼 잘라 스냅샷으로 변환 */
+    public MovieDetailSnapshot toSnapshot(TMDbMovieDetailDto d) {
+        List<String> genres = (d != null && d.getGenres() != null)
+                ? d.getGenres().stream().map(g -> g.name()).filter(Objects::nonNull).toList()
+                : List.of();
+
+        // 비디오/이미지
+        var videos = (d == null || d.getVideos() == null || d.getVideos().results() == null) ? List.<MovieDetailResponse.VideoItem>of()
+                : d.getVideos().results().stream().limit(8)
+                .map(v -> new MovieDetailResponse.VideoItem(v.name(), v.key(), v.site(), v.type()))
+                .toList();
+
+        var posters = (d == null || d.getImages() == null || d.getImages().posters() == null) ? List.<MovieDetailResponse.ImageItem>of()
+                : d.getImages().posters().stream().limit(12)
+                .map(i -> new MovieDetailResponse.ImageItem(
+                        img.w500(i.filePath()), i.width(), i.height(), i.aspectRatio()))
+                .toList();
+
+        var backdrops = (d == null || d.getImages() == null || d.getImages().backdrops() == null) ? List.<MovieDetailResponse.ImageItem>of()
+                : d.getImages().backdrops().stream().limit(12)
+                .map(i -> new MovieDetailResponse.ImageItem(
+                        img.w780(i.filePath()), i.width(), i.height(), i.aspectRatio()))
+                .toList();
+
+        // 연관작 (both need LocalDate)
+        var similar = (d == null || d.getSimilar() == null || d.getSimilar().results() == null) ? List.<MovieDetailResponse.RelatedItem>of()
+                : d.getSimilar().results().stream().limit(10)
+                .map(r -> new MovieDetailResponse.RelatedItem(
+                        r.id(), r.title(), img.w342(r.posterPath()), safeLocal(r.releaseDate())))
+                .toList();
+
+        var recs = (d == null || d.getRecommendations() == null || d.getRecommendations().results() == null) ? List.<MovieDetailResponse.RelatedItem>of()
+                : d.getRecommendations().results().stream().limit(10)
+                .map(r -> new MovieDetailResponse.RelatedItem(
+                        r.id(), r.title(), img.w342(r.posterPath()), safeLocal(r.releaseDate())))
+                .toList();
+
+        return new MovieDetailSnapshot(genres, videos, posters, backdrops, similar, recs);
+    }
+
+    /** 상세 화면 노출 대상 출연진 (order 순 상위 10명) */
+    public static List<CastDto> selectCast(TMDbMovieDetailDto d) {
+        if (d == null || d.getCredits() == null || d.getCredits().cast() == null) return List.of();
+        return d.getCredits().cast().stream()
+                .sorted(Comparator.comparingInt(c -> c.order() == null ? 999 : c.order()))
+                .limit(10)
+                .toList();
+    }
+
+    /** 상세 화면 노출 대상 핵심 크루 (최대 12명) */
+    public static List<CrewDto> selectCrew(TMDbMovieDetailDto d) {
+        if (d == null || d.getCredits() == null || d.getCredits().crew() == null) return List.of();
+        return d.getCredits().crew().stream()
+                .filter(c -> c.job() != null && CORE_CREW_JOBS.contains(c.job()))
+                .limit(12)
+                .toList();
+    }
+
+    private static List<String> keywordsOf(Movie m) {
+        return m.getMovieKeywords().stream()
+                .map(mk -> mk.getKeyword().getName())
+                .filter(Objects::nonNull).distinct().toList();
+    }
+
     private static LocalDate safeLocal(String s) {
         if (s == null || s.isBlank()) return null;
         try { return LocalDate.parse(s); } catch (Exception e) { return null; }
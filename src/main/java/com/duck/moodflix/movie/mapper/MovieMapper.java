@@ -52,10 +52,26 @@ public class MovieMapper {
                 .releaseDate(date)
                 .genre(genre)
                 .voteAverage(d.getVoteAverage())
+                .popularity(d.getPopularity())
                 .adult(adult)
                 .build();
     }
 
+    /** 증분 동기화: 기존 엔티티를 TMDb 최신 값으로 덮어씀 (tmdbId/id 유지, 비어 있는 값은 기존 값 보존) */
+    public void updateEntity(Movie m, TMDbMovieDetailDto d, String overviewFallback) {
+        if (m == null || d == null) throw new IllegalArgumentException("movie/detail must not be null");
+
+        Movie fresh = toEntity(d, overviewFallback);
+        if (fresh.getTitle() != null && !fresh.getTitle().isBlank()) m.setTitle(fresh.getTitle());
+        if (fresh.getOverview() != null) m.setOverview(fresh.getOverview());
+        if (fresh.getPosterUrl() != null) m.setPosterUrl(fresh.getPosterUrl());
+        if (fresh.getReleaseDate() != null) m.setReleaseDate(fresh.getReleaseDate());
+        if (fresh.getGenre() != null) m.setGenre(fresh.getGenre());
+        if (fresh.getVoteAverage() != null) m.setVoteAverage(fresh.getVoteAverage());
+        if (fresh.getPopularity() != null) m.setPopularity(fresh.getPopularity());
+        m.setAdult(fresh.isAdult());
+    }
+
     private static String firstNonBlank(String... arr) {
         if (arr == null) return null;
         for (String s : arr) if (s != null && !s.isBlank()) return s;
@@ -2,6 +2,9 @@ package com.duck.moodflix.movie.repository;
 
 import com.duck.moodflix.movie.domain.entity.Credit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +12,12 @@ import java.util.List;
 @Repository
 public interface CreditRepository extends JpaRepository<Credit, Long> {
     List<Credit> findByMovieId(Long movieId);
-}
\ No newline at end of file
+
+    /** 상세 화면용: 인물까지 한 번에 로딩 (N+1 회피) */
+    @Query("select c from Credit c join fetch c.person where c.movie.id = :movieId")
+    List<Credit> findWithPersonByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query("delete from Credit c where c.movie.id = :movieId")
+    int deleteByMovieId(@Param("movieId") Long movieId);
+}
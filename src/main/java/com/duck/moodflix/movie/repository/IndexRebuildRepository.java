@@ -0,0 +1,35 @@
+package com.duck.moodflix.movie.repository;
+
+import com.duck.moodflix.movie.domain.entity.IndexRebuild;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IndexRebuildRepository extends JpaRepository<IndexRebuild, Long> {
+
+    Optional<IndexRebuild> findTopByOrderByIdDesc();
+
+    Optional<IndexRebuild> findByActiveSlot(Integer activeSlot);
+
+    @Transactional
+    @Modifying
+    @Query("update IndexRebuild r set r.heartbeatAt = :now where r.id = :id and r.activeSlot is not null")
+    int touchHeartbeat(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** heartbeat 가 before 이전에 멈춘 실행 중 행을 FAILED 로 (조건부 → 여러 인스턴스 중 하나만 1 반환) */
+    @Transactional
+    @Modifying
+    @Query("""
+            update IndexRebuild r
+            set r.status = com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus.FAILED,
+                r.activeSlot = null, r.errorMessage = :error, r.finishedAt = :now
+            where r.id = :id and r.activeSlot is not null and r.heartbeatAt < :before
+            """)
+    int abandonIfStale(@Param("id") Long id, @Param("before") LocalDateTime before,
+                       @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -1,6 +1,7 @@
 package com.duck.moodflix.movie.repository;
 
 import com.duck.moodflix.movie.domain.entity.Keyword;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,12 @@ import java.util.Optional;
 
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     Optional<Keyword> findByNameIgnoreCase(String name);
+
+    /** 정규화 이름 조회 (ux_keywords_name_norm) */
+    Optional<Keyword> findByNameNorm(String nameNorm);
+
+    /** 키워드 사전 적재용 keyset 페이징 */
+    List<Keyword> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
     List<Keyword> findByNameIn(Iterable<String> names);
 
     @Query("select k from Keyword k where lower(k.name) in :names")
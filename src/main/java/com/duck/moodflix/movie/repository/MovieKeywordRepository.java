@@ -2,9 +2,11 @@ package com.duck.moodflix.movie.repository;
 
 import com.duck.moodflix.movie.domain.entity.MovieKeyword;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Set;
 
 public interface MovieKeywordRepository extends JpaRepository<MovieKeyword, Long> {
@@ -13,4 +15,12 @@ public interface MovieKeywordRepository extends JpaRepository<MovieKeyword, Long
 
     @Query("select mk.keyword.id from MovieKeyword mk where mk.movie.id = :movieId")
     Set<Long> findKeywordIdsByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query("delete from MovieKeyword mk where mk.movie.id = :movieId")
+    int deleteByMovieId(@Param("movieId") Long movieId);
+
+    @Modifying
+    @Query("delete from MovieKeyword mk where mk.movie.id = :movieId and mk.keyword.id not in :keep")
+    int deleteByMovieIdAndKeywordIdNotIn(@Param("movieId") Long movieId, @Param("keep") Collection<Long> keep);
 }
@@ -1,13 +1,16 @@
 package com.duck.moodflix.movie.repository;
 
 import com.duck.moodflix.movie.domain.entity.Movie;
-import org.springframework.data.domain.Page;
+import com.duck.moodflix.movie.dto.MovieIndexRow;
+import com.duck.moodflix.movie.dto.response.MovieSummaryResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,50 +26,81 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
 
     boolean existsByTmdbId(Long tmdbId);
 
-    Page<Movie> findByAdultFalse(Pageable pageable);
+    /** 동기화 잡 시작 시 기존 tmdbId 적재용 (tmdb_id 유니크 인덱스 기반 keyset 페이징) */
+    @Query("select m.tmdbId from Movie m where m.tmdbId > :after order by m.tmdbId")
+    List<Long> findTmdbIdsAfter(@Param("after") Long after, Pageable pageable);
 
+    /** 재색인: PK keyset 페이징 + 색인 컬럼만 프로젝션 (OFFSET 없음, 엔티티 관리 없음) */
+    @Query("""
+            select new com.duck.moodflix.movie.dto.MovieIndexRow(
+                m.id, m.tmdbId, m.title, m.posterUrl, m.genre, m.adult, m.releaseDate,
+                m.popularity, m.voteAverage, m.updatedAt)
+            from Movie m
+            where m.id > :after
+            order by m.id
+            """)
+    List<MovieIndexRow> findIndexRowsAfter(@Param("after") Long after, Pageable pageable);
+
+    /** 가장 최근 수정 시각 (인스턴스별 메모리 목록의 DB 워터마크) */
+    @Query("select max(m.updatedAt) from Movie m")
+    LocalDateTime findLatestUpdatedAt();
 
-    @Query(
-            value = """
-            select distinct m
+    /** 변경분 따라잡기: (updatedAt, id) keyset 으로 since 이후 수정된 행 (idx_movies_updated_at_id) */
+    @Query("""
+            select new com.duck.moodflix.movie.dto.MovieIndexRow(
+                m.id, m.tmdbId, m.title, m.posterUrl, m.genre, m.adult, m.releaseDate,
+                m.popularity, m.voteAverage, m.updatedAt)
             from Movie m
-            left join m.movieKeywords mk
-            left join mk.keyword k
-            left join Credit c on c.movie = m
-            left join c.person p
-            where
-              (:includeAdult = true or m.adult = false)
-              and (
-                  :q is null
-                  or TRIM(:q) = ''
-                  or lower(m.title) like lower(concat('%', :q, '%'))
-                  or lower(m.genre) like lower(concat('%', :q, '%'))
-                  or lower(k.name) like lower(concat('%', :q, '%'))
-                  or lower(p.name) like lower(concat('%', :q, '%'))
-              )
-        """,
-            countQuery = """
-            select count(distinct m.id)
+            where m.updatedAt > :since or (m.updatedAt = :since and m.id > :afterId)
+            order by m.updatedAt, m.id
+            """)
+    List<MovieIndexRow> findIndexRowsUpdatedAfter(@Param("since") LocalDateTime since,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    // ---- 목록(요약) 조회: 요약 컬럼만 레코드로 (overview TEXT / 엔티티 관리 없음) ----
+
+    /** 오프셋 목록 1단계: (adult, id) 인덱스만 훑어 id 페이지 결정 */
+    @Query("select m.id from Movie m where m.adult = false order by m.id")
+    List<Long> findNonAdultIds(Pageable pageable);
+
+    @Query("select m.id from Movie m order by m.id")
+    List<Long> findAllIds(Pageable pageable);
+
+    /** 오프셋 목록 2단계: 정한 id 만 PK 로 */
+    @Query("""
+            select new com.duck.moodflix.movie.dto.response.MovieSummaryResponse(
+                m.id, m.tmdbId, m.title, m.posterUrl, m.genre, m.releaseDate, m.voteAverage)
             from Movie m
-            left join m.movieKeywords mk
-            left join mk.keyword k
-            left join Credit c on c.movie = m
-            left join c.person p
-            where
-              (:includeAdult = true or m.adult = false)
-              and (
-                  :q is null
-                  or TRIM(:q) = ''
-                  or lower(m.title) like lower(concat('%', :q, '%'))
-                  or lower(m.genre) like lower(concat('%', :q, '%'))
-                  or lower(k.name) like lower(concat('%', :q, '%'))
-                  or lower(p.name) like lower(concat('%', :q, '%'))
-              )
-        """
-    )
-    Page<Movie> searchByText(@Param("q") String q,
-                             @Param("includeAdult") boolean includeAdult,
-                             Pageable pageable);
+            where m.id in :ids
+            order by m.id
+            """)
+    List<MovieSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** keyset 목록: id 이후 다음 페이지 (성인물 제외는 (adult, id) 인덱스 구간 스캔) */
+    @Query("""
+            select new com.duck.moodflix.movie.dto.response.MovieSummaryResponse(
+                m.id, m.tmdbId, m.title, m.posterUrl, m.genre, m.releaseDate, m.voteAverage)
+            from Movie m
+            where m.adult = false and m.id > :after
+            order by m.id
+            """)
+    List<MovieSummaryResponse> findNonAdultSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("""
+            select new com.duck.moodflix.movie.dto.response.MovieSummaryResponse(
+                m.id, m.tmdbId, m.title, m.posterUrl, m.genre, m.releaseDate, m.voteAverage)
+            from Movie m
+            where m.id > :after
+            order by m.id
+            """)
+    List<MovieSummaryResponse> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    long countByAdultFalse();
+
 
     List<Movie> findByIdIn(List<Long> movieIds);
+
+    /** 증분 동기화: 변경 피드 id 중 카탈로그에 있는 영화만 일괄 조회 */
+    List<Movie> findByTmdbIdIn(Collection<Long> tmdbIds);
 }
@@ -0,0 +1,32 @@
+package com.duck.moodflix.movie.repository;
+
+import com.duck.moodflix.movie.domain.entity.SyncChangeRetry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncChangeRetryRepository extends JpaRepository<SyncChangeRetry, Long> {
+
+    @Query("select r.tmdbId from SyncChangeRetry r order by r.lastFailedAt")
+    List<Long> findOldestIds(Pageable pageable);
+
+    /** 실패 기록 (있으면 시각만 갱신) - 호출 쪽 트랜잭션 참여 */
+    @Modifying
+    @Query(value = "INSERT INTO sync_change_retries (tmdb_id, attempts, last_failed_at) VALUES (:tmdbId, 0, :now) "
+            + "ON DUPLICATE KEY UPDATE last_failed_at = VALUES(last_failed_at)", nativeQuery = true)
+    int record(@Param("tmdbId") Long tmdbId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update SyncChangeRetry r set r.attempts = r.attempts + 1, r.lastFailedAt = :now where r.tmdbId in :ids")
+    int markFailedAgain(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /** maxAttempts 번 넘게 실패한 영화는 포기 (다음 변경 피드에 다시 올라오면 그때 갱신) */
+    @Modifying
+    @Query("delete from SyncChangeRetry r where r.attempts >= :maxAttempts")
+    int deleteExhausted(@Param("maxAttempts") int maxAttempts);
+}
@@ -0,0 +1,7 @@
+package com.duck.moodflix.movie.repository;
+
+import com.duck.moodflix.movie.domain.entity.SyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, String> {
+}
@@ -0,0 +1,50 @@
+package com.duck.moodflix.movie.repository;
+
+import com.duck.moodflix.movie.domain.entity.SyncJob;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncJobRepository extends JpaRepository<SyncJob, Long> {
+
+    boolean existsByStatus(SyncJobStatus status);
+
+    List<SyncJob> findByStatus(SyncJobStatus status);
+
+    List<SyncJob> findTop20ByOrderByIdDesc();
+
+    @Transactional
+    @Modifying
+    @Query("update SyncJob j set j.cancelRequested = true where j.id = :id")
+    int markCancelRequested(@Param("id") Long id);
+
+    @Query("select j.cancelRequested from SyncJob j where j.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    /** 점유가 만료된(또는 없는) 실행 중 잡을 owner 가 가져감 (조건부 → 여러 인스턴스 중 하나만 1 반환) */
+    @Transactional
+    @Modifying
+    @Query("""
+            update SyncJob j set j.owner = :owner, j.leaseUntil = :until
+            where j.id = :id and j.status = com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus.RUNNING
+              and (j.leaseUntil is null or j.leaseUntil < :now)
+            """)
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /** owner 가 아직 점유 중일 때만 연장. 0 이면 다른 인스턴스가 가져간 것 */
+    @Transactional
+    @Modifying
+    @Query("""
+            update SyncJob j set j.leaseUntil = :until
+            where j.id = :id and j.owner = :owner
+              and j.status = com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus.RUNNING
+            """)
+    int extendLease(@Param("id") Long id, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,128 @@
+package com.duck.moodflix.movie.search;
+
+import com.duck.moodflix.movie.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 초성 키 압축 접두어 인덱스 (불변).
+ * 정렬된 키를 char 풀 하나에 이어 붙이고 offset 으로 구분 → 키마다 String 객체를 두지 않음.
+ * 키 = 제목 전체의 초성 키 + 단어 시작 위치부터의 초성 키 ("다크 나이트" → ㄷㅋㄴㅇㅌ, ㄴㅇㅌ).
+ * 단어 중간부터의 키는 owner 를 비트 반전(~owner, 음수)으로 저장해 전체 제목 접두 일치와 구분.
+ */
+final class ChoseongPrefixIndex {
+
+    /** 접두어 일치한 키마다 호출 (owner = 항목 위치, fullTitle = 제목 맨 앞부터 일치) */
+    interface KeyConsumer {
+        void accept(int owner, boolean fullTitle);
+    }
+
+    private final char[] pool;
+    private final int[] offsets; // 길이 n + 1, 키 i = pool[offsets[i], offsets[i + 1])
+    private final int[] owners;
+
+    private ChoseongPrefixIndex(char[] pool, int[] offsets, int[] owners) {
+        this.pool = pool;
+        this.offsets = offsets;
+        this.owners = owners;
+    }
+
+    static ChoseongPrefixIndex build(String[] titles) {
+        List<String> keys = new ArrayList<>(titles.length * 2);
+        List<Integer> refs = new ArrayList<>(titles.length * 2);
+        for (int i = 0; i < titles.length; i++) {
+            boolean first = true;
+            for (String k : keys(titles[i])) {
+                keys.add(k);
+                refs.add(first ? i : ~i);
+                first = false;
+            }
+        }
+
+        Integer[] order = new Integer[keys.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+
+        int chars = 0;
+        for (String k : keys) chars += k.length();
+        char[] pool = new char[chars];
+        int[] offsets = new int[order.length + 1];
+        int[] owners = new int[order.length];
+        int pos = 0;
+        for (int i = 0; i < order.length; i++) {
+            String k = keys.get(order[i]);
+            offsets[i] = pos;
+            k.getChars(0, k.length(), pool, pos);
+            pos += k.length();
+            owners[i] = refs.get(order[i]);
+        }
+        offsets[order.length] = pos;
+        return new ChoseongPrefixIndex(pool, offsets, owners);
+    }
+
+    /** 제목의 초성 키들: 첫 번째가 제목 전체, 이후 단어 시작 위치부터 (중복/빈 키 제외) */
+    static List<String> keys(String title) {
+        if (title == null || title.isBlank()) return List.of();
+        Set<String> out = new LinkedHashSet<>();
+        String full = HangulUtils.toChoseongKey(title);
+        if (full.isEmpty()) return List.of();
+        out.add(full);
+        for (int i = 1; i < title.length(); i++) {
+            if (Character.isWhitespace(title.charAt(i - 1)) && !Character.isWhitespace(title.charAt(i))) {
+                String k = HangulUtils.toChoseongKey(title.substring(i));
+                if (!k.isEmpty()) out.add(k);
+            }
+        }
+        return new ArrayList<>(out);
+    }
+
+    int size() {
+        return owners.length;
+    }
+
+    long memoryBytes() {
+        return pool.length * 2L + offsets.length * 4L + owners.length * 4L;
+    }
+
+    void forEachPrefixed(String prefix, KeyConsumer consumer) {
+        for (int i = lowerBound(prefix); i < owners.length && startsWith(i, prefix); i++) {
+            int o = owners[i];
+            if (o >= 0) consumer.accept(o, true);
+            else consumer.accept(~o, false);
+        }
+    }
+
+    /** prefix 보다 작지 않은 첫 키 위치 */
+    private int lowerBound(String prefix) {
+        int lo = 0, hi = owners.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(mid, prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int compare(int i, String s) {
+        int from = offsets[i], len = offsets[i + 1] - from;
+        int n = Math.min(len, s.length());
+        for (int j = 0; j < n; j++) {
+            int d = pool[from + j] - s.charAt(j);
+            if (d != 0) return d;
+        }
+        return len - s.length();
+    }
+
+    private boolean startsWith(int i, String prefix) {
+        int from = offsets[i];
+        if (offsets[i + 1] - from < prefix.length()) return false;
+        for (int j = 0; j < prefix.length(); j++) {
+            if (pool[from + j] != prefix.charAt(j)) return false;
+        }
+        return true;
+    }
+}
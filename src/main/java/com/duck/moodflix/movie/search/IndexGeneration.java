@@ -0,0 +1,33 @@
+package com.duck.moodflix.movie.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 인덱스 세대 번호. 문서 쓰기/삭제/별칭 교체 때마다 증가 → 검색 결과 캐시 키에 포함해 무효화.
+ * ES 는 refresh 주기(기본 1s) 뒤에야 쓰기가 검색에 보이므로, 마지막 증가 후 그 시간 동안은 "안정되지 않음"으로 보고
+ * 캐시에 넣지 않는다 (반영 전 결과가 새 세대로 캐시되는 것 방지).
+ * 세대 번호는 이 JVM 안에서만 증가 → 다른 인스턴스의 쓰기는 moodflix.search-cache.ttl 만료로만 반영됨.
+ */
+@Component
+public class IndexGeneration {
+
+    private static final long REFRESH_WINDOW_MS = 1_500;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long bumpedAt;
+
+    public void bump() {
+        bumpedAt = System.currentTimeMillis();
+        generation.incrementAndGet();
+    }
+
+    public long current() {
+        return generation.get();
+    }
+
+    public boolean settled() {
+        return System.currentTimeMillis() - bumpedAt > REFRESH_WINDOW_MS;
+    }
+}
@@ -1,5 +1,6 @@
 package com.duck.moodflix.movie.search;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
@@ -12,7 +13,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "movies")
+@Document(indexName = MovieIndexAliases.READ_ALIAS, createIndex = false) // 읽기 별칭, 인덱스 생성은 MovieIndexAliases
 @Setting(settingPath = "elasticsearch/analyzer-settings.json") // 설정 파일 경로
 public class MovieDoc {
     @Id
@@ -37,12 +38,6 @@ public class MovieDoc {
                     searchAnalyzer = "keyword_lower"         // ← 여기!
             ),
             otherFields = {
-                    @InnerField(
-                            suffix = "ngram",
-                            type = FieldType.Text,
-                            analyzer = "chosung_ngram_analyzer",
-                            searchAnalyzer = "keyword_lower"     // ← 여기!
-                    ),
                     @InnerField(
                             suffix = "raw",
                             type = FieldType.Keyword
@@ -54,7 +49,13 @@ public class MovieDoc {
     @Field(type = FieldType.Keyword) // URL은 보통 keyword 타입이 적합합니다.
     private String posterUrl;
 
-    @Field(type = FieldType.Text, analyzer = "korean_analyzer")
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean_analyzer"),
+            otherFields = {
+                    // 필터/패싯 집계용 원문 값
+                    @InnerField(suffix = "keyword", type = FieldType.Keyword)
+            }
+    )
     private String genre;
 
     @Field(type = FieldType.Text, analyzer = "korean_analyzer")
@@ -71,4 +72,9 @@ public class MovieDoc {
 
     @Field(type = FieldType.Double)
     private Double voteAverage;
+
+    /** DB 행과의 정합성 검사용 CRC32(id:updatedAt) - MovieIndexRow#syncHash 참고 */
+    @JsonIgnore
+    @Field(type = FieldType.Long)
+    private Long syncHash;
 }
\ No newline at end of file
@@ -0,0 +1,240 @@
+package com.duck.moodflix.movie.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 영화 색인 버전/별칭 관리.
+ * - 물리 인덱스: movies_v{n} (매핑 변경 시 새 버전 생성)
+ * - 읽기 별칭: movies (MovieDoc 의 indexName, 검색은 항상 별칭으로)
+ * - 쓰기 별칭: movies_write (증분 색인/outbox 워커)
+ * - 재빌드 별칭: movies_rebuild (재빌드 중인 새 인덱스). 모든 인스턴스의 색인/삭제가 ES 에서 이 별칭을 확인해
+ *   같이 써서(dual-write) 교체 직후 누락이 없게 함
+ * 구버전(별칭 없이 "movies" 가 실제 인덱스인 경우)은 첫 재빌드의 별칭 교체 때 함께 정리.
+ * bulk 모드 전 원래 설정은 인덱스 매핑 _meta 에 기록 → 색인 중 인스턴스가 죽어도 다음 기동 때 복구.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieIndexAliases {
+
+    public static final String READ_ALIAS = "movies";
+    public static final String WRITE_ALIAS = "movies_write";
+    public static final String REBUILD_ALIAS = "movies_rebuild";
+    public static final String VERSION_PREFIX = "movies_v";
+    private static final String META_BULK_REFRESH = "bulk_original_refresh_interval";
+    private static final String META_BULK_REPLICAS = "bulk_original_number_of_replicas";
+
+    private final ElasticsearchClient esClient;
+    private final ElasticsearchOperations esOps;
+    private final IndexGeneration generation;
+
+    /**
+     * 기동 시: 별칭이 없으면 movies_v1 + 읽기/쓰기 별칭 생성. 구버전 단일 인덱스면 쓰기 별칭만 붙임.
+     * bulk 모드 중 죽은 인스턴스가 남긴 설정(refresh -1, replicas 0)도 여기서 복구.
+     */
+    public void bootstrap() {
+        restoreAbandonedBulkSettings();
+        if (aliasExists(READ_ALIAS)) {
+            String current = resolve(READ_ALIAS).orElseThrow();
+            if (!aliasExists(WRITE_ALIAS)) addWriteAlias(current);
+            log.info("[ES] alias {} -> {}", READ_ALIAS, current);
+            return;
+        }
+        if (indexExists(READ_ALIAS)) {
+            // 구버전: "movies" 가 실제 인덱스. 재빌드 전까지는 그대로 서비스
+            if (!aliasExists(WRITE_ALIAS)) addWriteAlias(READ_ALIAS);
+            log.warn("[ES] legacy concrete index '{}' in use; run an index rebuild to move to {}N",
+                    READ_ALIAS, VERSION_PREFIX);
+            return;
+        }
+        String first = createVersion(1);
+        call(() -> esClient.indices().updateAliases(u -> u
+                .actions(a -> a.add(ad -> ad.index(first).alias(READ_ALIAS)))
+                .actions(a -> a.add(ad -> ad.index(first).alias(WRITE_ALIAS).isWriteIndex(true)))));
+        log.info("[ES] {} created with aliases {}, {}", first, READ_ALIAS, WRITE_ALIAS);
+    }
+
+    /** 읽기 별칭이 가리키는 실제 인덱스 (구버전이면 "movies" 자체) */
+    public String readIndex() {
+        if (aliasExists(READ_ALIAS)) return resolve(READ_ALIAS).orElseThrow();
+        return READ_ALIAS;
+    }
+
+    /** 쓰기 별칭이 가리키는 실제 인덱스 (bulk 설정 변경 대상) */
+    public String writeIndex() {
+        return resolve(WRITE_ALIAS).orElseGet(this::readIndex);
+    }
+
+    /** 다음 버전 인덱스를 MovieDoc 설정/매핑으로 생성하고 이름 반환 */
+    public String createNextVersion() {
+        int max = call(() -> esClient.indices().get(g -> g.index(VERSION_PREFIX + "*")))
+                .result().keySet().stream()
+                .mapToInt(MovieIndexAliases::version)
+                .max().orElse(0);
+        return createVersion(max + 1);
+    }
+
+    /**
+     * 읽기/쓰기 별칭을 from → to 로 한 번의 _aliases 요청으로 교체 (원자적).
+     * from 이 구버전 실제 인덱스 "movies" 면 같은 요청에서 삭제해야 별칭 이름을 쓸 수 있음.
+     */
+    public void swap(String from, String to) {
+        boolean legacy = READ_ALIAS.equals(from);
+        call(() -> esClient.indices().updateAliases(u -> {
+            if (legacy) {
+                u.actions(a -> a.removeIndex(r -> r.index(from)));
+            } else {
+                u.actions(a -> a.remove(r -> r.index(from).alias(READ_ALIAS)));
+                u.actions(a -> a.remove(r -> r.index(from).alias(WRITE_ALIAS)));
+            }
+            return u.actions(a -> a.add(ad -> ad.index(to).alias(READ_ALIAS)))
+                    .actions(a -> a.add(ad -> ad.index(to).alias(WRITE_ALIAS).isWriteIndex(true)));
+        }));
+        generation.bump(); // 읽기 별칭이 다른 인덱스를 가리키므로 검색 캐시 무효화
+        log.info("[ES] aliases swapped: {} -> {}{}", from, to, legacy ? " (legacy index removed)" : "");
+    }
+
+    /** 현재 + 직전 버전만 남기고 오래된 movies_v* 삭제 (직전 버전은 롤백용) */
+    public List<String> pruneVersions(String current, String previous) {
+        List<String> stale = call(() -> esClient.indices().get(g -> g.index(VERSION_PREFIX + "*")))
+                .result().keySet().stream()
+                .filter(n -> !n.equals(current) && !n.equals(previous))
+                .toList();
+        for (String name : stale) delete(name);
+        return stale;
+    }
+
+    public void delete(String index) {
+        call(() -> esClient.indices().delete(d -> d.index(index)));
+        log.info("[ES] index {} deleted", index);
+    }
+
+    public long count(String index) {
+        call(() -> esClient.indices().refresh(r -> r.index(index)));
+        return call(() -> esClient.count(c -> c.index(index))).count();
+    }
+
+    /** 재빌드 중인 새 인덱스 (없으면 null). 다른 인스턴스가 시작한 재빌드도 보이도록 매번 ES 에서 확인 */
+    public String rebuildTarget() {
+        return resolve(REBUILD_ALIAS).orElse(null);
+    }
+
+    /** 재빌드 별칭을 index 로 옮김 (null 이면 제거) */
+    public void setRebuildTarget(String index) {
+        boolean exists = aliasExists(REBUILD_ALIAS);
+        if (index == null && !exists) return;
+        call(() -> esClient.indices().updateAliases(u -> {
+            if (exists) u.actions(a -> a.remove(r -> r.index("*").alias(REBUILD_ALIAS)));
+            if (index != null) u.actions(a -> a.add(ad -> ad.index(index).alias(REBUILD_ALIAS)));
+            return u;
+        }));
+        log.info("[ES] alias {} -> {}", REBUILD_ALIAS, index == null ? "(removed)" : index);
+    }
+
+    /** bulk 모드 시작 전 원래 설정을 인덱스 매핑 _meta 에 기록 (값이 없으면 빈 문자열 = ES 기본값) */
+    public void markBulkMode(String index, String refresh, String replicas) {
+        putMeta(index, Map.of(
+                META_BULK_REFRESH, JsonData.of(refresh == null ? "" : refresh),
+                META_BULK_REPLICAS, JsonData.of(replicas == null ? "" : replicas)));
+    }
+
+    /** 설정 복구 후 호출. 기록이 남아 있으면 다음 기동 때 다시 복구됨 (같은 값이라 무해) */
+    public void clearBulkMode(String index) {
+        putMeta(index, Map.of());
+    }
+
+    public void putSettings(String index, String refresh, String replicas) {
+        call(() -> esClient.indices().putSettings(r -> r
+                .index(index)
+                .settings(st -> st
+                        .refreshInterval(t -> t.time(refresh))
+                        .numberOfReplicas(replicas))));
+    }
+
+    /**
+     * bulk 모드 기록(_meta)이 남은 인덱스의 설정을 원래대로 되돌림.
+     * 재빌드 중인 새 인덱스는 다른 인스턴스가 아직 채우는 중일 수 있어 제외 (재빌드가 끝나거나 정리될 때 처리됨).
+     */
+    private void restoreAbandonedBulkSettings() {
+        String rebuilding = rebuildTarget();
+        var mappings = call(() -> esClient.indices().getMapping(g -> g
+                .index(VERSION_PREFIX + "*", READ_ALIAS)
+                .ignoreUnavailable(true)
+                .allowNoIndices(true))).result();
+        mappings.forEach((index, record) -> {
+            Map<String, JsonData> meta = record.mappings().meta();
+            if (index.equals(rebuilding) || !meta.containsKey(META_BULK_REFRESH)) return;
+            String refresh = meta.get(META_BULK_REFRESH).to(String.class);
+            String replicas = meta.get(META_BULK_REPLICAS).to(String.class);
+            // 원래 값이 없으면 ES 기본값(1s)/복제본 1
+            putSettings(index, refresh.isEmpty() ? "1s" : refresh, replicas.isEmpty() ? "1" : replicas);
+            clearBulkMode(index);
+            log.warn("[ES] {} was left in bulk mode; restored refresh={}, replicas={}", index, refresh, replicas);
+        });
+    }
+
+    private void putMeta(String index, Map<String, JsonData> meta) {
+        call(() -> esClient.indices().putMapping(p -> p.index(index).meta(meta)));
+    }
+
+    private String createVersion(int version) {
+        String name = VERSION_PREFIX + version;
+        IndexOperations typed = esOps.indexOps(MovieDoc.class);
+        esOps.indexOps(IndexCoordinates.of(name)).create(typed.createSettings(), typed.createMapping());
+        log.info("[ES] index {} created with mapping", name);
+        return name;
+    }
+
+    private void addWriteAlias(String index) {
+        call(() -> esClient.indices().updateAliases(u -> u
+                .actions(a -> a.add(ad -> ad.index(index).alias(WRITE_ALIAS).isWriteIndex(true)))));
+        log.info("[ES] alias {} -> {}", WRITE_ALIAS, index);
+    }
+
+    private Optional<String> resolve(String alias) {
+        if (!aliasExists(alias)) return Optional.empty();
+        return call(() -> esClient.indices().getAlias(g -> g.name(alias)))
+                .result().keySet().stream().findFirst();
+    }
+
+    private boolean aliasExists(String alias) {
+        return call(() -> esClient.indices().existsAlias(e -> e.name(alias))).value();
+    }
+
+    private boolean indexExists(String index) {
+        return call(() -> esClient.indices().exists(e -> e.index(index))).value();
+    }
+
+    private static int version(String index) {
+        try {
+            return Integer.parseInt(index.substring(VERSION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private interface EsCall<T> {
+        T run() throws IOException;
+    }
+
+    private static <T> T call(EsCall<T> c) {
+        try {
+            return c.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("ES alias operation failed", e);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package com.duck.moodflix.movie.search;
+
+import com.duck.moodflix.movie.dto.MovieIndexRow;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import com.duck.moodflix.movie.util.HangulUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 + 초성 검색용 인메모리 접두어 인덱스 (ES 호출 없음).
+ * - 스냅샷: 정렬된 키 배열(제목 정규화 값 + 단어 시작 위치부터의 접미) + 압축 초성 키({@link ChoseongPrefixIndex})
+ *   → 이진 탐색으로 접두어 구간 찾기
+ * - 자동완성: 구간 안에서 popularity, voteAverage 순 top-k (성인물 제외)
+ * - 초성 검색: 제목 맨 앞부터 일치 → 단어 중간부터 일치 순, 그 안에서 popularity, voteAverage 순 페이지
+ * - 증분 변경은 delta 맵에 쌓고 검색 때 함께 봄. 일정 크기/주기마다 새 스냅샷으로 합침
+ * MovieIndexService 가 색인할 때 같이 갱신하고, 전체 재색인 시 통째로 교체.
+ * outbox 배치는 여러 인스턴스가 나눠 처리하므로(SKIP LOCKED) 인스턴스마다 DB 의 updated_at 변경분도 주기적으로 따라잡음.
+ * 삭제(정합성 점검 경로에서만 발생)는 updated_at 으로 알 수 없어 주기적 전체 재적재로 반영.
+ */
+@Component
+@Slf4j
+public class MovieSuggestIndex {
+
+    private static final int LOAD_BATCH = 5000;
+    private static final int MAX_DELTA = 5000;
+    /** 늦게 커밋된 트랜잭션(updated_at 은 커밋 전 시각)과 인스턴스 간 시계 차이를 덮는 겹침 구간 */
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(2);
+
+    /** 인덱스 항목 (removed 면 삭제 표시). 초성 검색 결과를 ES 없이 만들 수 있도록 목록 표시 필드 보관 */
+    public record Entry(long id, Long tmdbId, String title, String posterUrl, String genre, LocalDate releaseDate,
+                        double popularity, double voteAverage, boolean adult, boolean removed) {
+
+        public static Entry of(MovieIndexRow r) {
+            return new Entry(r.id(), r.tmdbId(), r.title() == null ? "" : r.title(), r.posterUrl(),
+                    r.genre(), r.releaseDate(),
+                    r.popularity() == null ? 0.0 : r.popularity(),
+                    r.voteAverage() == null ? 0.0 : r.voteAverage(),
+                    r.adult(), false);
+        }
+
+        static Entry removed(long id) {
+            return new Entry(id, null, "", null, null, null, 0, 0, false, true);
+        }
+    }
+
+    /** 같은 순위 규칙: popularity → voteAverage 내림차순, id 오름차순 */
+    private static final Comparator<Entry> RANK = Comparator
+            .comparingDouble(Entry::popularity).reversed()
+            .thenComparing(Comparator.comparingDouble(Entry::voteAverage).reversed())
+            .thenComparingLong(Entry::id);
+
+    private final MovieRepository movieRepository;
+    private final Timer latency;
+    private final Timer choseongLatency;
+    private final Map<Long, Entry> delta = new ConcurrentHashMap<>();
+    private final Object compactLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.build(List.of());
+    private volatile boolean loaded;
+    private volatile LocalDateTime watermark; // 이 시각 이전 변경은 반영됨
+
+    public MovieSuggestIndex(MovieRepository movieRepository, MeterRegistry registry) {
+        this.movieRepository = movieRepository;
+        this.latency = Timer.builder("moodflix.suggest.latency")
+                .description("자동완성 조회 시간 (인메모리)")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.choseongLatency = Timer.builder("moodflix.search.choseong.latency")
+                .description("초성 검색 시간 (인메모리)")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    /** 기동 시 DB 에서 적재 (id keyset, 색인 컬럼만) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /** 전체 재적재 (삭제 반영용, 6시간마다) */
+    @Scheduled(initialDelay = 6 * 3_600_000, fixedDelay = 6 * 3_600_000)
+    public void reloadScheduled() {
+        reload();
+    }
+
+    private void reload() {
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime loadStart = LocalDateTime.now();
+            List<Entry> all = new ArrayList<>();
+            long lastId = 0L;
+            while (true) {
+                List<MovieIndexRow> rows = movieRepository.findIndexRowsAfter(lastId, PageRequest.of(0, LOAD_BATCH));
+                if (rows.isEmpty()) break;
+                for (MovieIndexRow r : rows) all.add(Entry.of(r));
+                lastId = rows.get(rows.size() - 1).id();
+                if (rows.size() < LOAD_BATCH) break;
+            }
+            replaceAll(all);
+            watermark = loadStart;
+            log.info("[Suggest] loaded {} titles in {}ms", all.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[Suggest] load failed: {}", e.toString());
+        }
+    }
+
+    /** 다른 인스턴스가 색인한 변경분 따라잡기: watermark(겹침 구간 포함) 이후 수정된 행을 delta 로 */
+    @Scheduled(fixedDelay = 30_000)
+    public void catchUpFromDb() {
+        LocalDateTime from = watermark;
+        if (!loaded || from == null) return;
+        try {
+            LocalDateTime since = from.minus(CATCH_UP_OVERLAP);
+            LocalDateTime latest = from;
+            long afterId = 0L;
+            int total = 0;
+            while (true) {
+                List<MovieIndexRow> rows = movieRepository.findIndexRowsUpdatedAfter(since, afterId, PageRequest.of(0, LOAD_BATCH));
+                if (rows.isEmpty()) break;
+                upsert(rows);
+                total += rows.size();
+                MovieIndexRow last = rows.get(rows.size() - 1);
+                since = last.updatedAt();
+                afterId = last.id();
+                if (since.isAfter(latest)) latest = since;
+                if (rows.size() < LOAD_BATCH) break;
+            }
+            watermark = latest;
+            if (total > 0) log.debug("[Suggest] caught up {} rows from DB (watermark={})", total, latest);
+        } catch (Exception e) {
+            log.warn("[Suggest] catch-up failed: {}", e.toString());
+        }
+    }
+
+    /** 전체 교체 (전체 재색인 결과). 적재 도중 들어온 delta 는 위에 덮어씀 */
+    public void replaceAll(Collection<Entry> entries) {
+        synchronized (compactLock) {
+            Map<Long, Entry> pending = new HashMap<>(delta);
+            Map<Long, Entry> merged = new HashMap<>(entries.size() * 2);
+            for (Entry e : entries) merged.put(e.id(), e);
+            merged.putAll(pending);
+            merged.values().removeIf(Entry::removed);
+            snapshot = Snapshot.build(merged.values());
+            pending.forEach(delta::remove);
+            loaded = true;
+            log.info("[Suggest] snapshot: {} titles, choseong keys={} ({} KB)", snapshot.entries.length,
+                    snapshot.cho.size(), snapshot.cho.memoryBytes() / 1024);
+        }
+    }
+
+    public void upsert(Collection<MovieIndexRow> rows) {
+        for (MovieIndexRow r : rows) delta.put(r.id(), Entry.of(r));
+        if (delta.size() > MAX_DELTA) compact();
+    }
+
+    public void remove(Collection<Long> ids) {
+        for (Long id : ids) delta.put(id, Entry.removed(id));
+        if (delta.size() > MAX_DELTA) compact();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void compactScheduled() {
+        if (!delta.isEmpty()) compact();
+    }
+
+    /** delta 를 스냅샷에 합쳐 새 스냅샷으로 교체 (검색은 교체 전 스냅샷 + delta 로 계속 진행) */
+    public void compact() {
+        synchronized (compactLock) {
+            Map<Long, Entry> pending = new HashMap<>(delta);
+            if (pending.isEmpty()) return;
+            Snapshot base = snapshot;
+            List<Entry> merged = new ArrayList<>(base.entries.length + pending.size());
+            for (Entry e : base.entries) {
+                if (!pending.containsKey(e.id())) merged.add(e);
+            }
+            for (Entry e : pending.values()) {
+                if (!e.removed()) merged.add(e);
+            }
+            snapshot = Snapshot.build(merged);
+            pending.forEach(delta::remove); // 합치는 동안 다시 바뀐 항목은 남김
+        }
+    }
+
+    /**
+     * 접두어 자동완성 top-k. 초성만으로 된 질의는 초성 키, 그 외는 제목(단어 시작 포함)으로.
+     * 초성+음절 혼합 질의("ㄱ세")는 초성 키로 후보를 찾고 음절 위치를 제목과 다시 대조.
+     */
+    public List<Entry> suggest(String q, int k) {
+        long start = System.nanoTime();
+        try {
+            String trimmed = q == null ? "" : q.trim();
+            // NFKC 는 호환 자모(ㄱ)를 조합형(ᄀ)으로 바꾸므로 초성 질의는 초성 키 규칙으로만 정규화
+            boolean mixed = HangulUtils.isMixedChoseongQuery(trimmed);
+            boolean cho = mixed || HangulUtils.isChoseongQuery(trimmed);
+            String key = cho ? HangulUtils.toChoseongKey(trimmed) : normalize(trimmed);
+            if (key.isEmpty() || k <= 0) return List.of();
+
+            TopK top = new TopK(k);
+            Snapshot s = snapshot;
+            if (cho) {
+                s.cho.forEachPrefixed(key, (owner, full) -> {
+                    Entry e = s.entries[owner];
+                    if (!e.adult() && !delta.containsKey(e.id())
+                            && (!mixed || mixedMatch(e.title(), trimmed) >= 0)) top.offer(e);
+                });
+            } else {
+                for (int i = lowerBound(s.titleKeys, key); i < s.titleKeys.length && s.titleKeys[i].startsWith(key); i++) {
+                    Entry e = s.entries[s.titleOwners[i]];
+                    if (!e.adult() && !delta.containsKey(e.id())) top.offer(e);
+                }
+            }
+            for (Entry e : delta.values()) {
+                if (e.removed() || e.adult()) continue;
+                if (mixed ? mixedMatch(e.title(), trimmed) >= 0 : matches(e, key, cho)) top.offer(e);
+            }
+            return top.result();
+        } finally {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 초성 질의 검색 (ES 의 titleChoseong prefix/ngram 질의 대체). 초성+음절 혼합 질의도 처리.
+     * 제목 맨 앞부터 일치하는 영화가 먼저, 그 안에서 popularity → voteAverage 순. 성인물 필터는 ES 검색과 같이 하지 않음.
+     */
+    public Page<Entry> searchChoseong(String q, Pageable pageable) {
+        long start = System.nanoTime();
+        try {
+            String trimmed = q == null ? "" : q.trim();
+            boolean mixed = HangulUtils.isMixedChoseongQuery(trimmed);
+            String key = HangulUtils.toChoseongKey(trimmed);
+            if (key.isEmpty()) return Page.empty(pageable);
+
+            // 스냅샷 항목은 순위순으로 놓여 있으므로 정렬 키 = (제목 맨 앞 일치 ? 0 : n) + 항목 위치
+            Snapshot s = snapshot;
+            int n = s.entries.length;
+            IntBuffer hits = new IntBuffer();
+            s.cho.forEachPrefixed(key, (owner, full) -> {
+                if (!mixed) {
+                    hits.add((full ? 0 : n) + owner);
+                    return;
+                }
+                int m = mixedMatch(s.entries[owner].title(), trimmed);
+                if (m >= 0) hits.add((m == 0 ? 0 : n) + owner);
+            });
+            int[] sorted = hits.sorted();
+
+            // delta 쪽 일치 (적음): 같은 규칙으로 정렬
+            List<Entry> deltaHits = new ArrayList<>();
+            Set<Long> deltaFull = new HashSet<>();
+            for (Entry e : delta.values()) {
+                if (e.removed()) continue;
+                if (mixed) {
+                    int m = mixedMatch(e.title(), trimmed);
+                    if (m == 0) deltaFull.add(e.id());
+                    if (m >= 0) deltaHits.add(e);
+                    continue;
+                }
+                List<String> keys = ChoseongPrefixIndex.keys(e.title());
+                if (!keys.isEmpty() && keys.get(0).startsWith(key)) {
+                    deltaFull.add(e.id());
+                    deltaHits.add(e);
+                } else if (keys.stream().anyMatch(k -> k.startsWith(key))) {
+                    deltaHits.add(e);
+                }
+            }
+            Comparator<Entry> deltaOrder = Comparator.<Entry, Boolean>comparing(e -> !deltaFull.contains(e.id())).thenComparing(RANK);
+            deltaHits.sort(deltaOrder);
+
+            long skip = pageable.getOffset();
+            int size = pageable.getPageSize();
+            List<Entry> content = new ArrayList<>(size);
+            long[] seen = new long[(n + 63) >>> 6];
+            long total = 0;
+            int di = 0;
+            for (int i = 0; i <= sorted.length; i++) {
+                Entry next = null;
+                boolean nextFull = false;
+                if (i < sorted.length) {
+                    nextFull = sorted[i] < n;
+                    int owner = nextFull ? sorted[i] : sorted[i] - n;
+                    if ((seen[owner >>> 6] & (1L << owner)) != 0) continue; // 단어 키로 또 걸린 같은 영화
+                    seen[owner >>> 6] |= 1L << owner;
+                    next = s.entries[owner];
+                    if (delta.containsKey(next.id())) continue; // 바뀐 항목은 delta 쪽 값으로
+                }
+                // 순서상 앞서는 delta 항목 먼저
+                while (di < deltaHits.size()) {
+                    Entry d = deltaHits.get(di);
+                    boolean dFull = deltaFull.contains(d.id());
+                    boolean before = next == null || (dFull && !nextFull)
+                            || (dFull == nextFull && RANK.compare(d, next) < 0);
+                    if (!before) break;
+                    if (total++ >= skip && content.size() < size) content.add(d);
+                    di++;
+                }
+                if (next != null && total++ >= skip && content.size() < size) content.add(next);
+            }
+            return new PageImpl<>(content, pageable, total);
+        } finally {
+            choseongLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 초기 적재가 끝났는지 (끝나기 전엔 초성 검색을 ES 로) */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return snapshot.entries.length;
+    }
+
+    private static boolean matches(Entry e, String key, boolean cho) {
+        if (cho) {
+            for (String k : ChoseongPrefixIndex.keys(e.title())) {
+                if (k.startsWith(key)) return true;
+            }
+            return false;
+        }
+        for (String k : titleKeys(e.title())) {
+            if (k.startsWith(key)) return true;
+        }
+        return false;
+    }
+
+    /** 혼합 질의 대조: 0 = 제목 맨 앞부터 일치, 1 = 단어 시작부터 일치, -1 = 불일치 */
+    private static int mixedMatch(String title, String q) {
+        if (HangulUtils.matchesChoseongPrefix(title, 0, q)) return 0;
+        for (int i = 1; i < title.length(); i++) {
+            if (Character.isWhitespace(title.charAt(i - 1)) && !Character.isWhitespace(title.charAt(i))
+                    && HangulUtils.matchesChoseongPrefix(title, i, q)) return 1;
+        }
+        return -1;
+    }
+
+    /** 제목 키: 정규화 제목 + 각 단어 시작 위치부터의 접미 ("다크 나이트" → "다크 나이트", "나이트") */
+    private static List<String> titleKeys(String title) {
+        String norm = normalize(title);
+        if (norm.isEmpty()) return List.of();
+        List<String> keys = new ArrayList<>(4);
+        keys.add(norm);
+        for (int i = norm.indexOf(' '); i >= 0 && i + 1 < norm.length(); i = norm.indexOf(' ', i + 1)) {
+            keys.add(norm.substring(i + 1));
+        }
+        return keys;
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        String t = Normalizer.normalize(s, Normalizer.Form.NFKC);
+        return t.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** 불변 스냅샷: 순위순 항목 배열 + 제목 키 정렬 배열 + 압축 초성 키 */
+    private static final class Snapshot {
+        final Entry[] entries; // 순위순 (popularity → voteAverage)
+        final String[] titleKeys;
+        final int[] titleOwners;
+        final ChoseongPrefixIndex cho;
+
+        private Snapshot(Entry[] entries, String[] titleKeys, int[] titleOwners, ChoseongPrefixIndex cho) {
+            this.entries = entries;
+            this.titleKeys = titleKeys;
+            this.titleOwners = titleOwners;
+            this.cho = cho;
+        }
+
+        private record KeyRef(String key, int owner) {}
+
+        static Snapshot build(Collection<Entry> source) {
+            Entry[] entries = source.toArray(new Entry[0]);
+            Arrays.sort(entries, RANK); // 항목 위치 = 순위
+
+            List<KeyRef> title = new ArrayList<>(entries.length * 2);
+            String[] titles = new String[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                for (String k : titleKeys(entries[i].title())) title.add(new KeyRef(k, i));
+                titles[i] = entries[i].title();
+            }
+            title.sort(Comparator.comparing(KeyRef::key));
+            return new Snapshot(entries,
+                    title.stream().map(KeyRef::key).toArray(String[]::new),
+                    title.stream().mapToInt(KeyRef::owner).toArray(),
+                    ChoseongPrefixIndex.build(titles));
+        }
+    }
+
+    /** 박싱 없는 int 가변 배열 */
+    private static final class IntBuffer {
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size << 1);
+            values[size++] = v;
+        }
+
+        int[] sorted() {
+            int[] out = Arrays.copyOf(values, size);
+            Arrays.sort(out);
+            return out;
+        }
+    }
+
+    /** popularity → voteAverage 내림차순 상위 k (같은 영화 중복 제외) */
+    private static final class TopK {
+        private final int k;
+        private final List<Entry> items;
+
+        TopK(int k) {
+            this.k = k;
+            this.items = new ArrayList<>(k + 1);
+        }
+
+        void offer(Entry e) {
+            if (items.size() == k && RANK.compare(e, items.get(k - 1)) >= 0) return;
+            for (Entry x : items) {
+                if (x.id() == e.id()) return;
+            }
+            int pos = 0;
+            while (pos < items.size() && RANK.compare(items.get(pos), e) <= 0) pos++;
+            items.add(pos, e);
+            if (items.size() > k) items.remove(k);
+        }
+
+        List<Entry> result() {
+            return List.copyOf(items);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.duck.moodflix.movie.search;
 
 import com.duck.moodflix.movie.repository.MovieRepository;
 import com.duck.moodflix.movie.service.IndexHealthService;
+import com.duck.moodflix.movie.service.IndexReconcileService;
 import com.duck.moodflix.movie.service.MovieIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,38 +16,27 @@ public class ReindexOnStartup {
     private final MovieRepository movieRepository;
     private final MovieIndexService movieIndexService;
     private final IndexHealthService health;
+    private final IndexReconcileService reconcileService;
 
     @org.springframework.context.event.EventListener(org.springframework.boot.context.event.ApplicationReadyEvent.class)
-    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public void reindexAfterStartup() {
-        if (!health.shouldIndex()) {
-            log.info("[Reindex] skip. dbCount={}, esCount={}", health.dbCount(), health.esCount());
+        if (!health.esHealthy()) {
+            log.info("[Reindex] skip. ES unavailable");
             return;
         }
 
-
-        final int batch = 500;
-        int page = 0, total = 0;
-
-        log.info("[Reindex] start");
-        while (true) {
-            var pageable = org.springframework.data.domain.PageRequest.of(page, batch);
-            var p = movieRepository.findAll(pageable);
-            if (!p.hasContent()) break;
-
-            var list = p.getContent();
-            log.info("[Reindex] page={} size={}", page, list.size());
-
-            try {
-                movieIndexService.indexMovies(list); // ES 벌크 색인
-                log.info("[Reindex] indexed {} docs", list.size());
-                total += list.size();
-            } catch (Exception e) {
-                log.error("[Reindex] indexing failed on page={}, err={}", page, e.toString(), e);
+        try {
+            if (health.esCount() == 0 && health.dbCount() > 0) {
+                // 빈 인덱스: 전체 bulk 재색인
+                log.info("[Reindex] empty index, full reindex (bulk mode)");
+                int total = movieIndexService.reindexAll(movieRepository);
+                log.info("[Reindex] done. total indexed={}", total);
+                return;
             }
-            page++;
+            // 그 외: 어긋난 id 만 찾아서 outbox 적재/삭제
+            reconcileService.reconcile();
+        } catch (Exception e) {
+            log.error("[Reindex] failed, err={}", e.toString(), e);
         }
-        log.info("[Reindex] done. total indexed={}", total);
     }
 }
-
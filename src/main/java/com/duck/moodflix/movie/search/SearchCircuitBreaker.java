@@ -0,0 +1,209 @@
+package com.duck.moodflix.movie.search;
+
+import com.duck.moodflix.movie.config.SearchBreakerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ES 검색 차단기.
+ * - CLOSED: 최근 window-size 건의 실패율/느린 호출 비율을 보고, 임계값을 넘으면 OPEN
+ * - OPEN: ES 를 부르지 않고 바로 SearchUnavailableException (호출 쪽이 DB 검색으로). open-duration 후 HALF_OPEN
+ * - HALF_OPEN: 실제 요청 중 half-open-probes 건만 ES 로 보내 보고, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * 호출은 esSearchExecutor 에서 실행하고 요청 스레드는 call-timeout 까지만 기다림.
+ * 동시 호출 상한은 세마포어로 (ES 호출이 끝날 때 반환) → 초과분은 기다리지 않고 즉시 거절.
+ * 메트릭: moodflix.search.breaker.state (0=닫힘, 1=열림, 2=반열림), moodflix.search.breaker.calls{outcome}
+ */
+@Slf4j
+@Component
+public class SearchCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte OK = 0, FAILED = 1, SLOW = 2;
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long callTimeoutNanos;
+    private final long slowNanos;
+    private final long openNanos;
+    private final int minCalls;
+    private final int failureRate;
+    private final int slowRate;
+    private final int probes;
+
+    private final Counter success;
+    private final Counter failure;
+    private final Counter slow;
+    private final Counter rejected;
+
+    // 아래 상태는 this 로 보호
+    private final byte[] window;
+    private int windowPos;
+    private int windowCount;
+    private int failedInWindow;
+    private int slowInWindow;
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public SearchCircuitBreaker(SearchBreakerProperties props,
+                                @Qualifier("esSearchExecutor") ExecutorService executor,
+                                MeterRegistry registry) {
+        this.executor = executor;
+        this.permits = new Semaphore(Math.max(1, props.getMaxConcurrent()));
+        this.callTimeoutNanos = props.getCallTimeout().toNanos();
+        this.slowNanos = props.getSlowCallThreshold().toNanos();
+        this.openNanos = props.getOpenDuration().toNanos();
+        this.minCalls = Math.max(1, props.getMinCalls());
+        this.failureRate = props.getFailureRateThreshold();
+        this.slowRate = props.getSlowCallRateThreshold();
+        this.probes = Math.max(1, props.getHalfOpenProbes());
+        this.window = new byte[Math.max(this.minCalls, props.getWindowSize())];
+
+        Gauge.builder("moodflix.search.breaker.state", this, b -> b.state().ordinal())
+                .description("ES 검색 차단기 상태 (0=닫힘, 1=열림, 2=반열림)").register(registry);
+        this.success = calls(registry, "success");
+        this.failure = calls(registry, "failure");
+        this.slow = calls(registry, "slow");
+        this.rejected = calls(registry, "rejected");
+    }
+
+    /** ES 호출 실행. 차단/거절/타임아웃/오류는 모두 SearchUnavailableException */
+    public <T> T call(Callable<T> task) {
+        boolean probe = acquire();
+        if (!permits.tryAcquire()) {
+            release(probe);
+            rejected.increment();
+            throw new SearchUnavailableException("ES search concurrency limit reached");
+        }
+        // 허가는 ES 호출이 실제로 끝날 때(타임아웃 뒤 계속 도는 경우 포함) 한 번만 반환
+        AtomicBoolean started = new AtomicBoolean();
+        AtomicBoolean returned = new AtomicBoolean();
+        Runnable releasePermit = () -> {
+            if (returned.compareAndSet(false, true)) permits.release();
+        };
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                started.set(true);
+                try {
+                    return task.call();
+                } finally {
+                    releasePermit.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releasePermit.run();
+            release(probe);
+            rejected.increment();
+            throw new SearchUnavailableException("ES search executor rejected the call");
+        }
+        try {
+            T result = future.get(callTimeoutNanos, TimeUnit.NANOSECONDS);
+            long took = System.nanoTime() - start;
+            record(took >= slowNanos ? SLOW : OK, probe);
+            return result;
+        } catch (TimeoutException e) {
+            cancel(future, started, releasePermit);
+            record(FAILED, probe);
+            throw new SearchUnavailableException("ES search timed out", e);
+        } catch (ExecutionException e) {
+            record(FAILED, probe);
+            throw new SearchUnavailableException("ES search failed: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future, started, releasePermit);
+            release(probe);
+            throw new SearchUnavailableException("interrupted", e);
+        }
+    }
+
+    /** 시작 전에 취소된 작업은 실행되지 않으므로 허가를 여기서 반환 */
+    private static void cancel(Future<?> future, AtomicBoolean started, Runnable releasePermit) {
+        if (future.cancel(true) && !started.get()) releasePermit.run();
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /** 호출 허용 여부 (반열림 시험 호출이면 true 반환값으로 표시) */
+    private synchronized boolean acquire() {
+        if (state == State.OPEN && System.nanoTime() - openUntil >= 0) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            log.info("[SearchBreaker] half-open, probing ES with {} requests", probes);
+        }
+        if (state == State.CLOSED) return false;
+        if (state == State.HALF_OPEN && probesInFlight + probeSuccesses < probes) {
+            probesInFlight++;
+            return true;
+        }
+        rejected.increment();
+        throw new SearchUnavailableException("ES search circuit open");
+    }
+
+    private synchronized void release(boolean probe) {
+        if (probe && state == State.HALF_OPEN) probesInFlight--;
+    }
+
+    private synchronized void record(byte outcome, boolean probe) {
+        (outcome == OK ? success : outcome == SLOW ? slow : failure).increment();
+        if (probe) {
+            if (state != State.HALF_OPEN) return; // 다른 시험 호출이 이미 결과를 냄
+            probesInFlight--;
+            if (outcome == OK) {
+                if (++probeSuccesses >= probes) close();
+            } else {
+                open("probe " + (outcome == SLOW ? "slow" : "failed"));
+            }
+            return;
+        }
+        if (state != State.CLOSED) return;
+
+        if (windowCount == window.length) {
+            byte evicted = window[windowPos];
+            if (evicted == FAILED) failedInWindow--;
+            else if (evicted == SLOW) slowInWindow--;
+        } else {
+            windowCount++;
+        }
+        window[windowPos] = outcome;
+        windowPos = (windowPos + 1) % window.length;
+        if (outcome == FAILED) failedInWindow++;
+        else if (outcome == SLOW) slowInWindow++;
+
+        if (windowCount < minCalls) return;
+        if (failedInWindow * 100 >= failureRate * windowCount) {
+            open(String.format("failure rate %d/%d", failedInWindow, windowCount));
+        } else if (slowInWindow * 100 >= slowRate * windowCount) {
+            open(String.format("slow call rate %d/%d", slowInWindow, windowCount));
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openUntil = System.nanoTime() + openNanos;
+        log.warn("[SearchBreaker] opened ({}), routing search to DB for {}s", reason, openNanos / 1_000_000_000L);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowPos = windowCount = failedInWindow = slowInWindow = 0;
+        log.info("[SearchBreaker] closed, ES search recovered");
+    }
+
+    private static Counter calls(MeterRegistry registry, String outcome) {
+        return Counter.builder("moodflix.search.breaker.calls").tag("outcome", outcome).register(registry);
+    }
+}
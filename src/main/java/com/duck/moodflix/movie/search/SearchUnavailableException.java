@@ -0,0 +1,13 @@
+package com.duck.moodflix.movie.search;
+
+/** ES 검색을 쓸 수 없음 (차단기 열림, 동시 호출 초과, 타임아웃, ES 오류) → 호출 쪽이 DB 검색으로 대체 */
+public class SearchUnavailableException extends RuntimeException {
+
+    public SearchUnavailableException(String message) {
+        super(message);
+    }
+
+    public SearchUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
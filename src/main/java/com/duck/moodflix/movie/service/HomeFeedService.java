@@ -0,0 +1,253 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.config.HomeFeedProperties;
+import com.duck.moodflix.movie.dto.MovieIndexRow;
+import com.duck.moodflix.movie.dto.response.MovieSummaryResponse;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 홈 화면 목록(인기순/평점순/최신 개봉/장르별 인기순)을 미리 계산해 메모리에 보관.
+ * - 목록 = 요약 배열의 위치(int[]), 요약은 어느 목록에든 든 영화만 한 벌 → 조회는 배열 구간 복사(O(page)), DB/ES 호출 없음
+ * - 성인물 제외, 목록마다 max-items 까지만
+ * - 영화 변경은 모두 색인 outbox 를 거치므로 drain 커밋 후 markStale → 스케줄러가 다시 만듦
+ * - 다른 인스턴스가 처리한 변경은 DB 워터마크(MAX(updated_at))로 감지, 그 외에도 max-age 마다
+ */
+@Service
+@Slf4j
+public class HomeFeedService {
+
+    private static final int LOAD_BATCH = 5000;
+    /** updated_at 은 커밋 전 시각 → 워터마크가 이보다 최근이면 늦게 커밋된 변경을 위해 한 번 더 만듦 */
+    private static final long COMMIT_LAG_MS = 120_000;
+
+    public enum Feed {
+        POPULAR("popular"), TOP_RATED("top-rated"), NEWEST("newest");
+
+        private final String path;
+
+        Feed(String path) {
+            this.path = path;
+        }
+
+        public static Feed from(String path) {
+            for (Feed f : values()) {
+                if (f.path.equalsIgnoreCase(path)) return f;
+            }
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown feed: " + path);
+        }
+    }
+
+    private static final Comparator<MovieIndexRow> BY_POPULARITY = Comparator
+            .comparingDouble((MovieIndexRow r) -> nz(r.popularity())).reversed()
+            .thenComparingLong(MovieIndexRow::id);
+    private static final Comparator<MovieIndexRow> BY_RATING = Comparator
+            .comparingDouble((MovieIndexRow r) -> nz(r.voteAverage())).reversed()
+            .thenComparing(BY_POPULARITY);
+    private static final Comparator<MovieIndexRow> BY_RELEASE = Comparator
+            .comparing(MovieIndexRow::releaseDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BY_POPULARITY);
+
+    private final MovieRepository movieRepository;
+    private final HomeFeedProperties props;
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+
+    public HomeFeedService(MovieRepository movieRepository, HomeFeedProperties props, MeterRegistry registry) {
+        this.movieRepository = movieRepository;
+        this.props = props;
+        Gauge.builder("moodflix.home-feed.age.seconds", this,
+                        s -> s.snapshot == null ? -1 : (System.currentTimeMillis() - s.snapshot.builtAt) / 1000.0)
+                .description("홈 목록 스냅샷 경과 시간(초)").register(registry);
+    }
+
+    /** 데이터가 바뀌었음 (다음 스케줄에서 다시 만듦). 트랜잭션 안이면 커밋된 뒤에 표시 */
+    public void markStale() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stale = true;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stale = true;
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refreshIfStale();
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void refreshIfStale() {
+        try {
+            if (needsRefresh(snapshot)) refresh();
+        } catch (Exception e) {
+            log.warn("[HomeFeed] refresh failed: {}", e.toString());
+        }
+    }
+
+    private boolean needsRefresh(Snapshot s) {
+        if (stale || s == null) return true;
+        long now = System.currentTimeMillis();
+        if (now - s.builtAt >= props.getMaxAge().toMillis()) return true;
+        if (s.recheckAt > 0 && now >= s.recheckAt) return true;
+        LocalDateTime latest = movieRepository.findLatestUpdatedAt(); // idx_movies_updated_at_id 끝 값만 읽음
+        return latest != null && (s.watermark == null || latest.isAfter(s.watermark));
+    }
+
+    /** 전체 재계산 (성인물 제외 영화를 id keyset 으로 훑음) */
+    public synchronized void refresh() {
+        stale = false; // 만드는 도중 들어온 신호는 다음 주기에 다시 반영
+        long start = System.currentTimeMillis();
+        LocalDateTime watermark = movieRepository.findLatestUpdatedAt(); // 적재 전에 읽어야 적재 중 변경을 다음 주기에 감지
+        List<MovieIndexRow> rows = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<MovieIndexRow> batch = movieRepository.findIndexRowsAfter(lastId, PageRequest.of(0, LOAD_BATCH));
+            if (batch.isEmpty()) break;
+            for (MovieIndexRow r : batch) {
+                if (!r.adult()) rows.add(r);
+            }
+            lastId = batch.get(batch.size() - 1).id();
+            if (batch.size() < LOAD_BATCH) break;
+        }
+        snapshot = Snapshot.build(rows, props, watermark);
+        log.info("[HomeFeed] rebuilt from {} movies in {}ms (items={}, genres={})", rows.size(),
+                System.currentTimeMillis() - start, snapshot.items.length, snapshot.byGenre.size());
+    }
+
+    public Page<MovieSummaryResponse> feed(Feed feed, Pageable pageable) {
+        Snapshot s = current();
+        int[] list = switch (feed) {
+            case POPULAR -> s.popular;
+            case TOP_RATED -> s.topRated;
+            case NEWEST -> s.newest;
+        };
+        return page(s, list, pageable);
+    }
+
+    /** 장르별 인기순 (장르명은 대소문자 무시) */
+    public Page<MovieSummaryResponse> genreFeed(String genre, Pageable pageable) {
+        Snapshot s = current();
+        int[] list = genre == null ? null : s.byGenre.get(genre.trim().toLowerCase(Locale.ROOT));
+        return page(s, list == null ? new int[0] : list, pageable);
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+        refresh(); // 기동 시 적재 실패 등 → 첫 요청에서 한 번 만듦
+        return snapshot;
+    }
+
+    private static Page<MovieSummaryResponse> page(Snapshot s, int[] list, Pageable pageable) {
+        long offset = pageable.getOffset();
+        if (offset >= list.length) return new PageImpl<>(List.of(), pageable, list.length);
+        int from = (int) offset;
+        int to = Math.min(list.length, from + pageable.getPageSize());
+        List<MovieSummaryResponse> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) content.add(s.items[list[i]]);
+        return new PageImpl<>(content, pageable, list.length);
+    }
+
+    private static double nz(Double d) {
+        return d == null ? 0.0 : d;
+    }
+
+    /** 불변 스냅샷: 요약 배열 + 목록별 위치 배열 */
+    private static final class Snapshot {
+        final MovieSummaryResponse[] items;
+        final int[] popular;
+        final int[] topRated;
+        final int[] newest;
+        final Map<String, int[]> byGenre;
+        final LocalDateTime watermark; // 적재 직전 MAX(updated_at)
+        final long builtAt = System.currentTimeMillis();
+        final long recheckAt;          // 0 이 아니면 이 시각에 한 번 더 만듦
+
+        private Snapshot(MovieSummaryResponse[] items, int[] popular, int[] topRated, int[] newest,
+                         Map<String, int[]> byGenre, LocalDateTime watermark) {
+            this.items = items;
+            this.popular = popular;
+            this.topRated = topRated;
+            this.newest = newest;
+            this.byGenre = byGenre;
+            this.watermark = watermark;
+            boolean recent = watermark != null
+                    && Duration.between(watermark, LocalDateTime.now()).toMillis() < COMMIT_LAG_MS;
+            this.recheckAt = recent ? builtAt + COMMIT_LAG_MS : 0;
+        }
+
+        static Snapshot build(List<MovieIndexRow> rows, HomeFeedProperties props, LocalDateTime watermark) {
+            int max = Math.max(1, props.getMaxItems());
+            LocalDate today = LocalDate.now();
+
+            List<MovieIndexRow> popular = top(rows, BY_POPULARITY, max);
+            List<MovieIndexRow> topRated = top(rows.stream()
+                    .filter(r -> nz(r.popularity()) >= props.getTopRatedMinPopularity())
+                    .toList(), BY_RATING, max);
+            List<MovieIndexRow> newest = top(rows.stream()
+                    .filter(r -> r.releaseDate() != null && !r.releaseDate().isAfter(today))
+                    .toList(), BY_RELEASE, max);
+            Map<String, List<MovieIndexRow>> genres = new HashMap<>();
+            for (MovieIndexRow r : rows) {
+                if (r.genre() == null || r.genre().isBlank()) continue;
+                genres.computeIfAbsent(r.genre().trim().toLowerCase(Locale.ROOT), g -> new ArrayList<>()).add(r);
+            }
+
+            // 목록에 든 영화만 요약 한 벌 (id → 위치)
+            Map<Long, Integer> slot = new HashMap<>();
+            List<MovieSummaryResponse> items = new ArrayList<>();
+            int[] popularIdx = positions(popular, slot, items);
+            int[] topRatedIdx = positions(topRated, slot, items);
+            int[] newestIdx = positions(newest, slot, items);
+            Map<String, int[]> byGenre = new HashMap<>(genres.size() * 2);
+            genres.forEach((g, list) -> byGenre.put(g, positions(top(list, BY_POPULARITY, max), slot, items)));
+
+            return new Snapshot(items.toArray(new MovieSummaryResponse[0]),
+                    popularIdx, topRatedIdx, newestIdx, Map.copyOf(byGenre), watermark);
+        }
+
+        private static List<MovieIndexRow> top(List<MovieIndexRow> rows, Comparator<MovieIndexRow> order, int max) {
+            List<MovieIndexRow> sorted = new ArrayList<>(rows);
+            sorted.sort(order);
+            return sorted.size() > max ? sorted.subList(0, max) : sorted;
+        }
+
+        private static int[] positions(List<MovieIndexRow> list, Map<Long, Integer> slot,
+                                       List<MovieSummaryResponse> items) {
+            int[] out = new int[list.size()];
+            for (int i = 0; i < out.length; i++) {
+                MovieIndexRow r = list.get(i);
+                out[i] = slot.computeIfAbsent(r.id(), id -> {
+                    items.add(new MovieSummaryResponse(r.id(), r.tmdbId(), r.title(), r.posterUrl(),
+                            r.genre(), r.releaseDate(), r.voteAverage()));
+                    return items.size() - 1;
+                });
+            }
+            return out;
+        }
+    }
+}
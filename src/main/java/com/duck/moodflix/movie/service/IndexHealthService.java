@@ -30,10 +30,4 @@ public class IndexHealthService {
             return false;
         }
     }
-
-    /** 색인이 “필요한지”만 결정: ES 살아있고, ES < DB 일 때만 */
-    public boolean shouldIndex() {
-        if (!esHealthy()) return false;
-        return esCount() < dbCount();
-    }
 }
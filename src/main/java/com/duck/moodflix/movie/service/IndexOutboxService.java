@@ -0,0 +1,195 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.config.IndexOutboxProperties;
+import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ES 색인 outbox.
+ * - enqueue: 호출 쪽 트랜잭션에 참여해 index_outbox 에 다중 행 INSERT (DB 커밋과 원자적)
+ * - drain: 워커가 due 행을 FOR UPDATE SKIP LOCKED 로 잠가 lease 로 점유(짧은 트랜잭션) → 트랜잭션 밖에서 배치 색인
+ *   → 성공 시 삭제, 실패 시 지수 백오프
+ *   (같은 배치로 DB 검색 행 movie_search_docs 도 갱신, 홈 목록은 다시 만들도록 표시)
+ * - 메트릭: moodflix.index.outbox.pending / lag.seconds (게이지), indexed / failed (카운터)
+ */
+@Service
+@Slf4j
+public class IndexOutboxService {
+
+    private static final int ENQUEUE_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final MovieRepository movieRepository;
+    private final MovieIndexService movieIndexService;
+    private final MovieSearchDocService searchDocs;
+    private final HomeFeedService homeFeed;
+    private final IndexOutboxProperties props;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter indexed;
+    private final Counter failed;
+
+    public IndexOutboxService(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate tx,
+                              MovieRepository movieRepository,
+                              MovieIndexService movieIndexService,
+                              MovieSearchDocService searchDocs,
+                              HomeFeedService homeFeed,
+                              IndexOutboxProperties props,
+                              MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = tx;
+        this.movieRepository = movieRepository;
+        this.movieIndexService = movieIndexService;
+        this.searchDocs = searchDocs;
+        this.homeFeed = homeFeed;
+        this.props = props;
+        Gauge.builder("moodflix.index.outbox.pending", pending, AtomicLong::get)
+                .description("색인 대기 행 수").register(registry);
+        Gauge.builder("moodflix.index.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 행의 경과 시간(초)").register(registry);
+        this.indexed = Counter.builder("moodflix.index.outbox.indexed").register(registry);
+        this.failed = Counter.builder("moodflix.index.outbox.failed").register(registry);
+    }
+
+    /** 색인 대상 영화 적재 (현재 트랜잭션 참여) */
+    public void enqueue(Collection<Long> movieIds) {
+        List<Long> ids = movieIds == null ? List.of()
+                : movieIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < ids.size(); from += ENQUEUE_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ENQUEUE_CHUNK, ids.size()));
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO index_outbox (movie_id, created_at, attempts, next_attempt_at) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?,?,0,?)" : ",(?,?,0,?)");
+                args.add(chunk.get(i));
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    public void enqueue(Long movieId) {
+        enqueue(List.of(movieId));
+    }
+
+    @Scheduled(fixedDelayString = "${moodflix.index-outbox.poll-ms:2000}")
+    public void drainScheduled() {
+        try {
+            while (drainOnce() == props.getBatchSize()) {
+                // 가득 찬 배치면 밀린 게 더 있으므로 바로 이어서 처리
+            }
+        } catch (Exception e) {
+            log.warn("[IndexOutbox] drain failed: {}", e.toString());
+        } finally {
+            refreshLag();
+        }
+    }
+
+    /**
+     * due 행 1배치 처리, 꺼낸 행 수 반환.
+     * 1) 짧은 트랜잭션: FOR UPDATE SKIP LOCKED 로 잠근 행의 next_attempt_at 을 lease 만큼 미뤄 점유 후 바로 커밋
+     * 2) 트랜잭션 밖: 검색 행 갱신 + ES 색인 (느려도 DB 잠금/커넥션을 잡지 않음)
+     * 3) 성공하면 행 삭제, 실패하면 백오프 기록 (각각 단일 문장이라 1)의 롤백에 묶이지 않음)
+     */
+    public int drainOnce() {
+        List<long[]> rows = tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<long[]> due = jdbcTemplate.query(
+                    "SELECT id, movie_id, attempts FROM index_outbox WHERE next_attempt_at <= ? "
+                            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                    (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getInt(3)},
+                    Timestamp.valueOf(now), props.getBatchSize());
+            if (!due.isEmpty()) lease(due.stream().map(r -> r[0]).toList(), now.plus(props.getLease()));
+            return due;
+        });
+        if (rows == null || rows.isEmpty()) return 0;
+
+        List<Long> rowIds = rows.stream().map(r -> r[0]).toList();
+        List<Long> movieIds = rows.stream().map(r -> r[1]).distinct().toList();
+        try {
+            // DB 검색 행을 ES 보다 먼저 갱신 (ES 장애 중에도 DB 검색 경로는 최신), 실패하면 배치 전체가 백오프
+            searchDocs.refresh(movieIds);
+            homeFeed.markStale();
+            // 삭제된 영화는 그냥 정리 (문서 삭제는 별도 경로)
+            List<Movie> movies = movieRepository.findByIdIn(movieIds);
+            movieIndexService.indexMovies(movies);
+            delete(rowIds);
+            indexed.increment(movies.size());
+        } catch (Exception e) {
+            int maxAttempts = rows.stream().mapToInt(r -> (int) r[2]).max().orElse(0) + 1;
+            LocalDateTime next = LocalDateTime.now().plus(backoff(maxAttempts));
+            markFailed(rowIds, next, e.toString());
+            failed.increment(movieIds.size());
+            log.warn("[IndexOutbox] batch failed ({} movies), retry at {} (attempt {}): {}",
+                    movieIds.size(), next, maxAttempts, e.toString());
+        }
+        return rows.size();
+    }
+
+    private Duration backoff(int attempts) {
+        long base = props.getBaseBackoff().toMillis();
+        long ms = base << Math.min(20, Math.max(0, attempts - 1));
+        return Duration.ofMillis(Math.min(ms, props.getMaxBackoff().toMillis()));
+    }
+
+    private void lease(List<Long> rowIds, LocalDateTime until) {
+        List<Object> args = new ArrayList<>(rowIds.size() + 1);
+        args.add(Timestamp.valueOf(until));
+        args.addAll(rowIds);
+        jdbcTemplate.update("UPDATE index_outbox SET next_attempt_at = ? WHERE id IN ("
+                + placeholders(rowIds.size()) + ")", args.toArray());
+    }
+
+    private void delete(List<Long> rowIds) {
+        jdbcTemplate.update("DELETE FROM index_outbox WHERE id IN (" + placeholders(rowIds.size()) + ")",
+                rowIds.toArray());
+    }
+
+    private void markFailed(List<Long> rowIds, LocalDateTime next, String error) {
+        List<Object> args = new ArrayList<>(rowIds.size() + 2);
+        args.add(Timestamp.valueOf(next));
+        args.add(error.length() <= 500 ? error : error.substring(0, 500));
+        args.addAll(rowIds);
+        jdbcTemplate.update("UPDATE index_outbox SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? "
+                + "WHERE id IN (" + placeholders(rowIds.size()) + ")", args.toArray());
+    }
+
+    private void refreshLag() {
+        try {
+            Map<String, Object> r = jdbcTemplate.queryForMap("SELECT COUNT(*) AS cnt, MIN(created_at) AS oldest FROM index_outbox");
+            pending.set(((Number) r.get("cnt")).longValue());
+            Object oldest = r.get("oldest");
+            LocalDateTime t = oldest instanceof Timestamp ts ? ts.toLocalDateTime()
+                    : oldest instanceof LocalDateTime ldt ? ldt : null;
+            lagSeconds.set(t == null ? 0 : Math.max(0, Duration.between(t, LocalDateTime.now()).toSeconds()));
+        } catch (Exception e) {
+            log.debug("[IndexOutbox] lag refresh failed: {}", e.toString());
+        }
+    }
+
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+}
@@ -0,0 +1,203 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.domain.entity.IndexRebuild;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+import com.duck.moodflix.movie.dto.response.IndexRebuildResponse;
+import com.duck.moodflix.movie.dto.response.IndexReconcileResponse;
+import com.duck.moodflix.movie.repository.IndexRebuildRepository;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import com.duck.moodflix.movie.search.MovieIndexAliases;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 무중단 색인 재빌드 (blue/green).
+ * 1) movies_v{n+1} 생성 + movies_rebuild 별칭으로 dual-write 시작 (모든 인스턴스의 증분 색인이 새 인덱스에도 들어감)
+ * 2) MySQL 전체를 새 인덱스에 bulk 모드로 채움 (bulk 설정은 새 인덱스에만 → 검색 중인 인덱스는 영향 없음)
+ * 3) 새 인덱스를 DB 와 대조(IndexReconcileService#repairIndex)해 어긋난 문서를 고치고, 일치할 때까지 반복
+ *    (bulk 가 읽은 뒤 바뀐/삭제된 행의 옛 문서가 dual-write 를 덮어쓴 경우를 교체 전에 바로잡음)
+ * 4) 읽기/쓰기 별칭을 한 요청으로 교체, 직전 버전은 롤백용으로 남기고 그 이전 버전 삭제
+ * 실패 시 새 인덱스를 지우고 별칭은 그대로 둠.
+ * 상태는 index_rebuilds 에 두고 클러스터에서 하나만 실행 (재빌드 별칭이 있거나 실행 중 행이 있으면 거절).
+ * 실행하던 인스턴스가 죽어 heartbeat 가 STALE_AFTER 동안 멈추면 다른 인스턴스가 별칭과 새 인덱스를 정리.
+ */
+@Service
+@Slf4j
+public class IndexRebuildService {
+
+    private static final int MAX_REPAIR_ROUNDS = 5;
+    /** heartbeat 는 @Scheduled 스레드에서 갱신 → 다른 예약 작업에 밀려도 오인하지 않도록 넉넉히 */
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+
+    private final MovieIndexAliases aliases;
+    private final MovieIndexService movieIndexService;
+    private final MovieRepository movieRepository;
+    private final IndexReconcileService reconcileService;
+    private final IndexRebuildRepository rebuildRepository;
+    private final ExecutorService executor;
+
+    /** 이 인스턴스에서 실행 중인 재빌드 id (heartbeat 대상) */
+    private volatile Long runningId;
+
+    public IndexRebuildService(MovieIndexAliases aliases,
+                               MovieIndexService movieIndexService,
+                               MovieRepository movieRepository,
+                               IndexReconcileService reconcileService,
+                               IndexRebuildRepository rebuildRepository,
+                               @Qualifier("indexRebuildExecutor") ExecutorService executor) {
+        this.aliases = aliases;
+        this.movieIndexService = movieIndexService;
+        this.movieRepository = movieRepository;
+        this.reconcileService = reconcileService;
+        this.rebuildRepository = rebuildRepository;
+        this.executor = executor;
+    }
+
+    public synchronized IndexRebuildResponse start() {
+        String pending = aliases.rebuildTarget();
+        if (pending != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Index rebuild already running: " + pending
+                    + " (left over from a crashed instance? it is cleared after " + STALE_AFTER.toMinutes() + "m without heartbeat)");
+        }
+        IndexRebuild row;
+        try {
+            row = rebuildRepository.saveAndFlush(IndexRebuild.builder()
+                    .status(SyncJobStatus.RUNNING)
+                    .activeSlot(IndexRebuild.ACTIVE)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Index rebuild already running on another instance");
+        }
+
+        String from = null, to = null;
+        try {
+            from = aliases.readIndex();
+            to = aliases.createNextVersion();
+            aliases.setRebuildTarget(to); // DB 읽기 전에 켜야 그 사이 변경분이 빠지지 않음
+        } catch (RuntimeException e) {
+            if (to != null) deleteQuietly(to);
+            row.finish(SyncJobStatus.FAILED, 0, 0, 0, e.toString());
+            rebuildRepository.save(row);
+            throw e;
+        }
+        row.setPreviousIndex(from);
+        row.setTargetIndex(to);
+        row = rebuildRepository.save(row);
+
+        Long id = row.getId();
+        String source = from, target = to;
+        runningId = id;
+        executor.submit(() -> run(id, source, target));
+        return IndexRebuildResponse.from(row);
+    }
+
+    /** 가장 최근 재빌드 (어느 인스턴스에서 실행했든) */
+    public IndexRebuildResponse status() {
+        return rebuildRepository.findTopByOrderByIdDesc()
+                .map(IndexRebuildResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No index rebuild has run"));
+    }
+
+    /** 실행 중이면 heartbeat 갱신, 멈춘 재빌드/주인 없는 재빌드 별칭은 정리 (모든 인스턴스에서 실행) */
+    @Scheduled(fixedDelay = 60_000)
+    public void heartbeat() {
+        try {
+            Long id = runningId;
+            if (id != null) rebuildRepository.touchHeartbeat(id, LocalDateTime.now());
+            clearAbandoned();
+        } catch (Exception e) {
+            log.warn("[Rebuild] heartbeat/cleanup failed: {}", e.toString());
+        }
+    }
+
+    private void clearAbandoned() {
+        // 시작은 행 INSERT → 별칭 순서라, 별칭을 먼저 읽어야 막 시작한 재빌드를 주인 없는 별칭으로 오인하지 않음
+        String target = aliases.rebuildTarget();
+        Optional<IndexRebuild> active = rebuildRepository.findByActiveSlot(IndexRebuild.ACTIVE);
+        if (active.isPresent()) {
+            IndexRebuild r = active.get();
+            if (r.getId().equals(runningId)) return;
+            LocalDateTime now = LocalDateTime.now();
+            String error = "abandoned: no heartbeat for " + STALE_AFTER.toMinutes() + "m";
+            if (rebuildRepository.abandonIfStale(r.getId(), now.minus(STALE_AFTER), error, now) == 0) return;
+            log.warn("[Rebuild] id={} {} -> {} {}", r.getId(), r.getPreviousIndex(), r.getTargetIndex(), error);
+            dropTarget(r.getTargetIndex());
+        } else if (target != null) {
+            log.warn("[Rebuild] alias {} -> {} has no running rebuild; removing", MovieIndexAliases.REBUILD_ALIAS, target);
+            dropTarget(target);
+        }
+    }
+
+    /** 재빌드 별칭 제거 + 새 인덱스 삭제. 별칭 교체 직후 죽었으면 이미 서비스 중이므로 삭제하지 않음 */
+    private void dropTarget(String index) {
+        if (index == null) return;
+        if (index.equals(aliases.rebuildTarget())) aliases.setRebuildTarget(null);
+        if (index.equals(aliases.readIndex())) return;
+        deleteQuietly(index);
+    }
+
+    private void run(Long id, String from, String to) {
+        long dbCount = 0, indexed = 0, esCount = 0;
+        SyncJobStatus status;
+        String error = null;
+        try {
+            dbCount = movieRepository.count();
+            log.info("[Rebuild] {} -> {} start (db={})", from, to, dbCount);
+            indexed = movieIndexService.reindexInto(movieRepository, to);
+            repairUntilInSync(to);
+            esCount = aliases.count(to);
+            aliases.swap(from, to);
+            aliases.setRebuildTarget(null);
+            List<String> pruned = aliases.pruneVersions(to, from);
+            status = SyncJobStatus.COMPLETED;
+            log.info("[Rebuild] done: {} docs in {}, pruned={}", esCount, to, pruned);
+        } catch (Exception e) {
+            log.error("[Rebuild] {} failed, aliases unchanged: {}", to, e.toString(), e);
+            status = SyncJobStatus.FAILED;
+            error = e.getMessage();
+            try {
+                aliases.setRebuildTarget(null);
+            } catch (Exception ae) {
+                log.warn("[Rebuild] removing alias {} failed: {}", MovieIndexAliases.REBUILD_ALIAS, ae.toString());
+            }
+            deleteQuietly(to);
+        } finally {
+            runningId = null;
+        }
+        // 별칭 정리 후에 행을 끝내야 다른 인스턴스가 새 재빌드를 시작할 수 있음
+        IndexRebuild row = rebuildRepository.findById(id).orElseThrow();
+        row.finish(status, dbCount, indexed, esCount, error);
+        rebuildRepository.save(row);
+    }
+
+    /** 대조 결과가 깨끗해야 교체. 쓰기가 계속 몰려 수렴하지 않으면 실패 처리 */
+    private void repairUntilInSync(String index) {
+        for (int round = 1; ; round++) {
+            IndexReconcileResponse r = reconcileService.repairIndex(index);
+            if (r.inSync()) return;
+            if (round >= MAX_REPAIR_ROUNDS) {
+                throw new IllegalStateException("index " + index + " still out of sync after " + round
+                        + " repair rounds (missing=" + r.missing() + ", stale=" + r.stale() + ", extra=" + r.extra() + ")");
+            }
+        }
+    }
+
+    private void deleteQuietly(String index) {
+        try {
+            aliases.delete(index);
+        } catch (Exception e) {
+            log.warn("[Rebuild] cleanup of {} failed: {}", index, e.toString());
+        }
+    }
+}
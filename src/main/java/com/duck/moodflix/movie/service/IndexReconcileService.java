@@ -0,0 +1,175 @@
+package com.duck.moodflix.movie.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.aggregations.HistogramBucket;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.duck.moodflix.movie.dto.MovieIndexRow;
+import com.duck.moodflix.movie.dto.response.IndexReconcileResponse;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import com.duck.moodflix.movie.search.MovieIndexAliases;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * DB↔ES 정합성 검사/복구.
+ * 1) id 를 BUCKET 단위 구간으로 나눠 양쪽에서 (문서 수, syncHash 합) 을 집계
+ *    - MySQL: GROUP BY FLOOR(id / BUCKET) + SUM(CRC32(id:updatedAt))
+ *    - ES: id histogram + syncHash sum 집계 (문서 본문은 읽지 않음)
+ * 2) 값이 다른 구간만 id 단위로 대조해 missing/stale/extra 판정
+ * 3) missing + stale 은 색인 outbox 에 적재, extra 는 ES 에서 삭제
+ * 복구 비용은 어긋난 문서 수에 비례 (syncHash 가 없는 옛 문서는 stale 로 잡혀 한 번 재색인됨).
+ * 재빌드 중인 새 인덱스는 {@link #repairIndex(String)} 로 별칭 교체 전에 바로 복구.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class IndexReconcileService {
+
+    private static final int BUCKET = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ElasticsearchClient esClient;
+    private final MovieIndexService movieIndexService;
+    private final IndexOutboxService indexOutbox;
+    private final MovieRepository movieRepository;
+
+    private record Bucket(long count, long hashSum) {}
+
+    /** 서비스 중인 인덱스(쓰기 별칭) 검사. 누락/변경분은 outbox 로 */
+    public IndexReconcileResponse reconcile() {
+        return reconcile(MovieIndexAliases.WRITE_ALIAS, false);
+    }
+
+    /**
+     * 재빌드 대상 인덱스 검사 + 즉시 복구 (outbox 를 거치지 않음).
+     * bulk 가 DB 를 읽은 뒤 들어온 변경/삭제가 bulk 보다 먼저 색인되면 옛 문서가 이기므로, 교체 전에 이걸로 덮어씀.
+     * 반환값은 복구 전 비교 결과 → inSync 가 나올 때까지 반복 호출.
+     */
+    public IndexReconcileResponse repairIndex(String index) {
+        call(() -> esClient.indices().refresh(r -> r.index(index))); // 직전 복구분까지 보이도록
+        return reconcile(index, true);
+    }
+
+    private IndexReconcileResponse reconcile(String index, boolean repairNow) {
+        long start = System.currentTimeMillis();
+        Map<Long, Bucket> db = dbBuckets();
+        Map<Long, Bucket> es = esBuckets(index);
+
+        SortedSet<Long> keys = new TreeSet<>(db.keySet());
+        keys.addAll(es.keySet());
+
+        int mismatched = 0;
+        List<Long> missing = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+        List<Long> extra = new ArrayList<>();
+        for (Long lo : keys) {
+            if (Objects.equals(db.get(lo), es.get(lo))) continue;
+            mismatched++;
+
+            Map<Long, Long> dbRows = db.containsKey(lo) ? dbHashes(lo) : Map.of();
+            Map<Long, Long> esRows = es.containsKey(lo) ? esHashes(index, lo) : Map.of();
+            dbRows.forEach((id, hash) -> {
+                Long indexed = esRows.get(id);
+                if (indexed == null) missing.add(id);
+                else if (!indexed.equals(hash)) stale.add(id);
+            });
+            for (Long id : esRows.keySet()) {
+                if (!dbRows.containsKey(id)) extra.add(id);
+            }
+        }
+
+        List<Long> reindex = new ArrayList<>(missing);
+        reindex.addAll(stale);
+        if (!repairNow) {
+            indexOutbox.enqueue(reindex);
+        } else if (!reindex.isEmpty()) {
+            // 쓰기 별칭 + 재빌드 별칭 양쪽에 현재 DB 값으로 색인
+            movieIndexService.indexMovies(movieRepository.findByIdIn(reindex));
+        }
+        movieIndexService.deleteDocs(extra);
+
+        var result = new IndexReconcileResponse(keys.size(), mismatched,
+                missing.size(), stale.size(), extra.size(), System.currentTimeMillis() - start);
+        log.info("[Reconcile] {}: buckets={}, mismatched={}, missing={}, stale={}, extra={} in {}ms",
+                index, result.buckets(), result.mismatchedBuckets(), result.missing(), result.stale(),
+                result.extra(), result.tookMs());
+        return result;
+    }
+
+    private Map<Long, Bucket> dbBuckets() {
+        Map<Long, Bucket> out = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT FLOOR(id / ?) * ? AS lo, COUNT(*) AS c, SUM(" + MovieIndexRow.SYNC_HASH_SQL + ") AS h "
+                        + "FROM movies GROUP BY lo",
+                rs -> {
+                    out.put(rs.getLong("lo"), new Bucket(rs.getLong("c"), rs.getLong("h")));
+                },
+                BUCKET, BUCKET);
+        return out;
+    }
+
+    private Map<Long, Bucket> esBuckets(String index) {
+        SearchResponse<Void> resp = call(() -> esClient.search(s -> s
+                .index(index)
+                .size(0)
+                .aggregations("b", a -> a
+                        .histogram(h -> h.field("id").interval((double) BUCKET).minDocCount(1))
+                        .aggregations("h", sa -> sa.sum(sm -> sm.field("syncHash")))),
+                Void.class));
+
+        Map<Long, Bucket> out = new HashMap<>();
+        for (HistogramBucket b : resp.aggregations().get("b").histogram().buckets().array()) {
+            // 버킷당 CRC32 합 < 2^42 → double 로도 정확
+            long hashSum = Math.round(b.aggregations().get("h").sum().value());
+            out.put((long) b.key(), new Bucket(b.docCount(), hashSum));
+        }
+        return out;
+    }
+
+    private Map<Long, Long> dbHashes(long lo) {
+        Map<Long, Long> out = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, " + MovieIndexRow.SYNC_HASH_SQL + " AS h FROM movies WHERE id >= ? AND id < ?",
+                rs -> {
+                    out.put(rs.getLong("id"), rs.getLong("h"));
+                },
+                lo, lo + BUCKET);
+        return out;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Map<Long, Long> esHashes(String index, long lo) {
+        SearchResponse<Map> resp = call(() -> esClient.search(s -> s
+                .index(index)
+                .size(BUCKET)
+                .query(q -> q.range(r -> r.number(n -> n.field("id").gte((double) lo).lt((double) (lo + BUCKET)))))
+                .source(src -> src.filter(f -> f.includes("syncHash"))),
+                Map.class));
+
+        Map<Long, Long> out = new HashMap<>();
+        for (Hit<Map> hit : resp.hits().hits()) {
+            Object hash = hit.source() == null ? null : hit.source().get("syncHash");
+            out.put(Long.parseLong(hit.id()), hash instanceof Number n ? n.longValue() : -1L);
+        }
+        return out;
+    }
+
+    private interface EsCall<T> {
+        T run() throws IOException;
+    }
+
+    private static <T> T call(EsCall<T> c) {
+        try {
+            return c.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("ES reconcile query failed", e);
+        }
+    }
+}
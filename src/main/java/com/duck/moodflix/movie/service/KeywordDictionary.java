@@ -0,0 +1,113 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.domain.entity.Keyword;
+import com.duck.moodflix.movie.repository.KeywordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 전역 키워드 사전: lower(name) → keyword id.
+ * - 기동 시 keywords 전체를 keyset 페이징으로 적재, 이후 조회는 DB 미접근
+ * - 사전에 없는 키워드만 잠금 안에서 재확인 → DB 확인 → INSERT (독립 트랜잭션으로 즉시 커밋:
+ *   호출 쪽 트랜잭션이 롤백돼도 사전과 DB 가 어긋나지 않음)
+ * - 다른 인스턴스와의 동시 INSERT 경쟁은 name_norm 유니크 제약 위반 → 정규화 이름으로 재조회해서 흡수
+ * - 정규화 전 행은 적재하면서 대표 행(가장 작은 ID)의 name_norm 을 채움
+ */
+@Component
+@Slf4j
+public class KeywordDictionary {
+
+    private static final int WARM_BATCH = 5_000;
+
+    private final KeywordRepository keywordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTx;
+    private final ConcurrentHashMap<String, Long> ids = new ConcurrentHashMap<>();
+    private volatile boolean warmed;
+
+    public KeywordDictionary(KeywordRepository keywordRepository, JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager txManager) {
+        this.keywordRepository = keywordRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTx = new TransactionTemplate(txManager);
+        this.newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureWarmed();
+    }
+
+    /** 사전 조회만 (없으면 null) */
+    public Long find(String lower) {
+        ensureWarmed();
+        return ids.get(lower);
+    }
+
+    /** 없으면 생성 후 ID 반환 */
+    public Long getOrCreate(String lower, String display) {
+        Long id = find(lower);
+        if (id != null) return id;
+
+        synchronized (this) {
+            id = ids.get(lower);
+            if (id != null) return id;
+
+            try {
+                id = newTx.execute(status -> keywordRepository.findByNameNorm(lower)
+                        .map(Keyword::getId)
+                        .orElseGet(() -> keywordRepository.saveAndFlush(
+                                Keyword.builder().name(display).nameNorm(lower).build()).getId()));
+            } catch (DataIntegrityViolationException ex) {
+                // 다른 인스턴스가 먼저 생성한 경우 (ux_keywords_name_norm) 재조회로 회복
+                id = newTx.execute(status -> keywordRepository.findByNameNorm(lower).orElseThrow().getId());
+            }
+            ids.put(lower, id);
+            return id;
+        }
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private void ensureWarmed() {
+        if (warmed) return;
+        synchronized (this) {
+            if (warmed) return;
+            long after = 0;
+            List<Object[]> backfill = new ArrayList<>();
+            while (true) {
+                List<Keyword> batch = keywordRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, WARM_BATCH));
+                // 대소문자만 다른 중복 행이 있으면 가장 작은 ID 를 대표로 사용
+                for (Keyword k : batch) {
+                    String lower = k.getName().trim().toLowerCase(Locale.ROOT);
+                    if (ids.putIfAbsent(lower, k.getId()) == null && k.getNameNorm() == null) {
+                        backfill.add(new Object[]{lower, k.getId()});
+                    }
+                }
+                if (batch.size() < WARM_BATCH) break;
+                after = batch.get(batch.size() - 1).getId();
+            }
+            if (!backfill.isEmpty()) {
+                // 같은 정규화 이름을 다른 행이 이미 가졌으면 IGNORE 로 건너뜀
+                jdbcTemplate.batchUpdate("UPDATE IGNORE keywords SET name_norm = ? WHERE id = ? AND name_norm IS NULL", backfill);
+            }
+            warmed = true;
+            log.info("[KeywordDictionary] warmed: {} keywords (name_norm backfilled {})", ids.size(), backfill.size());
+        }
+    }
+}
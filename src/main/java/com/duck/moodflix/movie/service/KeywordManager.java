@@ -1,12 +1,9 @@
 package com.duck.moodflix.movie.service;
 
-import com.duck.moodflix.movie.domain.entity.Keyword;
 import com.duck.moodflix.movie.domain.entity.Movie;
-import com.duck.moodflix.movie.domain.entity.MovieKeyword;
-import com.duck.moodflix.movie.repository.KeywordRepository;
 import com.duck.moodflix.movie.repository.MovieKeywordRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,52 +13,88 @@ import java.util.*;
 @RequiredArgsConstructor
 public class KeywordManager {
 
-    private final KeywordRepository keywordRepository;
+    /** 다중 행 INSERT 한 문장에 넣는 최대 행 수 */
+    private static final int LINK_CHUNK = 500;
+
+    private final KeywordDictionary dictionary;
     private final MovieKeywordRepository movieKeywordRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public void upsert(Movie movie, List<String> names) {
-        if (names == null || names.isEmpty()) return;
+        linkAll(Map.of(movie.getId(), names == null ? List.of() : names));
+    }
 
-        // 1) 입력 정규화 (trim + lower), 최초 원형 보존
-        Map<String, String> canonical = new LinkedHashMap<>();
-        for (String raw : names) {
-            if (raw == null) continue;
-            String trimmed = raw.trim();
-            if (trimmed.isEmpty()) continue;
-            String lower = trimmed.toLowerCase(Locale.ROOT);
-            canonical.putIfAbsent(lower, trimmed);
+    /** 증분 동기화: 키워드 링크를 names 와 정확히 일치시키도록 추가/삭제 */
+    @Transactional
+    public void replace(Movie movie, List<String> names) {
+        Map<String, Long> ids = resolveIds(names);
+        insertLinks(Map.of(movie.getId(), names == null ? List.of() : names), ids);
+
+        Set<Long> keep = new HashSet<>(ids.values());
+        if (keep.isEmpty()) {
+            movieKeywordRepository.deleteByMovieId(movie.getId());
+        } else {
+            movieKeywordRepository.deleteByMovieIdAndKeywordIdNotIn(movie.getId(), keep);
         }
-        if (canonical.isEmpty()) return;
+    }
 
-        // 2) 벌크 조회 (lower(name) IN ...)
-        Map<String, Keyword> found = new HashMap<>();
-        keywordRepository.findByNameLowerIn(canonical.keySet())
-                .forEach(k -> found.put(k.getName().toLowerCase(Locale.ROOT), k));
+    /**
+     * 페이지 단위 일괄 링크: 전체 키워드를 한 번에 해석한 뒤
+     * movie_keywords 에 다중 행 INSERT IGNORE (ux_movie_keyword 로 중복 무시). 새로 연결된 행 수 반환.
+     */
+    @Transactional
+    public int linkAll(Map<Long, List<String>> namesByMovieId) {
+        if (namesByMovieId == null || namesByMovieId.isEmpty()) return 0;
 
-        // 3) 영화에 이미 연결된 키워드 ID를 한 번에 로딩
-        Set<Long> existingKeywordIds = movieKeywordRepository.findKeywordIdsByMovieId(movie.getId());
+        List<String> all = new ArrayList<>();
+        namesByMovieId.values().forEach(all::addAll);
+        return insertLinks(namesByMovieId, resolveIds(all));
+    }
 
-        // 4) 업서트 + 조인 업서트
-        for (Map.Entry<String, String> e : canonical.entrySet()) {
-            String lower = e.getKey();
-            String display = e.getValue();
+    private int insertLinks(Map<Long, List<String>> namesByMovieId, Map<String, Long> ids) {
+        if (ids.isEmpty()) return 0;
 
-            Keyword k = found.get(lower);
-            if (k == null) {
-                try {
-                    k = keywordRepository.save(Keyword.builder().name(display).build());
-                } catch (DataIntegrityViolationException ex) {
-                    // 동시 생성 경쟁 시 재조회로 회복
-                    k = keywordRepository.findByNameIgnoreCase(display).orElseThrow();
-                }
-                found.put(lower, k);
+        List<long[]> rows = new ArrayList<>();
+        namesByMovieId.forEach((movieId, names) -> {
+            Set<Long> seen = new HashSet<>();
+            for (String lower : canonicalize(names).keySet()) {
+                Long kid = ids.get(lower);
+                if (kid != null && seen.add(kid)) rows.add(new long[]{movieId, kid});
             }
+        });
 
-            if (!existingKeywordIds.contains(k.getId())) {
-                movieKeywordRepository.save(MovieKeyword.of(movie, k));
-                existingKeywordIds.add(k.getId());
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += LINK_CHUNK) {
+            List<long[]> chunk = rows.subList(from, Math.min(from + LINK_CHUNK, rows.size()));
+            StringBuilder sql = new StringBuilder("INSERT IGNORE INTO movie_keywords (movie_id, keyword_id) VALUES ");
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?,?)" : ",(?,?)");
+                args[i * 2] = chunk.get(i)[0];
+                args[i * 2 + 1] = chunk.get(i)[1];
             }
+            inserted += jdbcTemplate.update(sql.toString(), args);
+        }
+        return inserted;
+    }
+
+    /** 키워드명 → ID (소문자 키). 사전에서 해석하고 없는 키워드만 생성 */
+    private Map<String, Long> resolveIds(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        canonicalize(names).forEach((lower, display) -> ids.put(lower, dictionary.getOrCreate(lower, display)));
+        return ids;
+    }
+
+    private static Map<String, String> canonicalize(Collection<String> names) {
+        Map<String, String> canonical = new LinkedHashMap<>();
+        if (names == null) return canonical;
+        for (String raw : names) {
+            if (raw == null) continue;
+            String trimmed = raw.trim();
+            if (trimmed.isEmpty()) continue;
+            canonical.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), trimmed);
         }
+        return canonical;
     }
 }
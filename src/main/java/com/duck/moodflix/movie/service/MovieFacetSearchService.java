@@ -0,0 +1,208 @@
+package com.duck.moodflix.movie.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.duck.moodflix.movie.dto.MovieSearchFilter;
+import com.duck.moodflix.movie.dto.response.MovieFacetSearchResponse;
+import com.duck.moodflix.movie.dto.response.MovieFacetSearchResponse.Bucket;
+import com.duck.moodflix.movie.dto.response.MovieFacetSearchResponse.Facets;
+import com.duck.moodflix.movie.search.MovieDoc;
+import com.duck.moodflix.movie.search.SearchCircuitBreaker;
+import com.duck.moodflix.movie.search.SearchUnavailableException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType.BestFields;
+
+/**
+ * 필터/패싯 검색 (장르, 개봉 연도, 평점, 성인물).
+ * - 조건은 전부 bool.filter → 점수 계산 없음, ES 노드 필터 캐시 대상
+ * - 장르 필터는 post_filter 로 걸어 장르 패싯이 다른 장르 선택지 수도 보여 주게 함 (연도/평점 패싯은 장르까지 반영)
+ * - 페이지는 from/size 대신 search_after 커서 (정렬값을 Base64 로 담음), 패싯은 첫 페이지에서만 집계
+ * - ES 호출은 SearchCircuitBreaker 경유, 쓸 수 없으면 503
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieFacetSearchService {
+
+    private static final String GENRE_FIELD = "genre.keyword";
+    private static final int GENRE_FACET_SIZE = 30;
+    private static final List<AggregationRange> RATING_RANGES = List.of(
+            AggregationRange.of(r -> r.key("~5").to(5.0)),
+            AggregationRange.of(r -> r.key("5~6").from(5.0).to(6.0)),
+            AggregationRange.of(r -> r.key("6~7").from(6.0).to(7.0)),
+            AggregationRange.of(r -> r.key("7~8").from(7.0).to(8.0)),
+            AggregationRange.of(r -> r.key("8~").from(8.0)));
+
+    private final ElasticsearchOperations esOps;
+    private final SearchCircuitBreaker breaker;
+    private final ObjectMapper objectMapper;
+
+    public MovieFacetSearchResponse search(MovieSearchFilter f, int size, String cursor) {
+        validate(f);
+        boolean firstPage = cursor == null || cursor.isBlank();
+        Query genreFilter = genreFilter(f);
+
+        NativeQueryBuilder b = NativeQuery.builder()
+                .withQuery(q -> q.bool(bb -> bb
+                        .must(mainQuery(f))
+                        .filter(filters(f))))
+                .withPageable(PageRequest.of(0, size))
+                .withSort(sort(f))
+                .withTrackTotalHits(true);
+        if (genreFilter != null) b.withFilter(genreFilter);
+        if (!firstPage) b.withSearchAfter(decodeCursor(cursor));
+        if (firstPage) {
+            b.withAggregation("genres", Aggregation.of(a -> a
+                    .terms(t -> t.field(GENRE_FIELD).size(GENRE_FACET_SIZE))));
+            b.withAggregation("scoped", Aggregation.of(a -> a
+                    .filter(genreFilter != null ? genreFilter : Query.of(q -> q.matchAll(m -> m)))
+                    .aggregations("years", sa -> sa.dateHistogram(h -> h
+                            .field("releaseDate")
+                            .calendarInterval(CalendarInterval.Year)
+                            .format("yyyy")
+                            .minDocCount(1)))
+                    .aggregations("ratings", sa -> sa.range(r -> r
+                            .field("voteAverage")
+                            .ranges(RATING_RANGES)))));
+        }
+
+        NativeQuery query = b.build();
+        SearchHits<MovieDoc> hits;
+        try {
+            hits = breaker.call(() -> esOps.search(query, MovieDoc.class));
+        } catch (SearchUnavailableException e) {
+            // 패싯/커서는 DB 대체 경로가 없음 → 빠르게 503 (요청 스레드를 붙잡지 않음)
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Search temporarily unavailable");
+        }
+        List<MovieDoc> content = hits.stream().map(SearchHit::getContent).toList();
+        String next = null;
+        if (content.size() == size) {
+            next = encodeCursor(hits.getSearchHit(content.size() - 1).getSortValues());
+        }
+        return new MovieFacetSearchResponse(content, hits.getTotalHits(), next,
+                firstPage ? facets(hits) : null);
+    }
+
+    private Query mainQuery(MovieSearchFilter f) {
+        if (!f.hasQuery()) return Query.of(q -> q.matchAll(m -> m));
+        return Query.of(q -> q.multiMatch(mm -> mm
+                .query(f.q())
+                .type(BestFields)
+                .fields("title^5", "keywords^2", "genre")));
+    }
+
+    /** 장르 외 필터 (본 질의와 모든 패싯에 적용) */
+    private List<Query> filters(MovieSearchFilter f) {
+        List<Query> out = new ArrayList<>(4);
+        if (!f.includeAdult()) {
+            out.add(Query.of(q -> q.term(t -> t.field("adult").value(false))));
+        }
+        if (f.yearFrom() != null || f.yearTo() != null) {
+            out.add(Query.of(q -> q.range(r -> r.date(d -> {
+                d.field("releaseDate");
+                if (f.yearFrom() != null) d.gte(f.yearFrom() + "-01-01");
+                if (f.yearTo() != null) d.lte(f.yearTo() + "-12-31");
+                return d;
+            }))));
+        }
+        if (f.minRating() != null || f.maxRating() != null) {
+            out.add(Query.of(q -> q.range(r -> r.number(n -> {
+                n.field("voteAverage");
+                if (f.minRating() != null) n.gte(f.minRating());
+                if (f.maxRating() != null) n.lte(f.maxRating());
+                return n;
+            }))));
+        }
+        return out;
+    }
+
+    private Query genreFilter(MovieSearchFilter f) {
+        if (f.genres().isEmpty()) return null;
+        List<FieldValue> values = f.genres().stream().map(FieldValue::of).toList();
+        return Query.of(q -> q.terms(t -> t.field(GENRE_FIELD).terms(tv -> tv.value(values))));
+    }
+
+    /** search_after 용 전체 정렬 순서 (빈 값은 0 으로 채워 커서가 항상 숫자) */
+    private List<SortOptions> sort(MovieSearchFilter f) {
+        List<SortOptions> out = new ArrayList<>(3);
+        if (f.hasQuery()) {
+            out.add(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))));
+        } else {
+            out.add(fieldSort("popularity"));
+        }
+        out.add(fieldSort("voteAverage"));
+        out.add(fieldSort("tmdbId"));
+        return out;
+    }
+
+    private static SortOptions fieldSort(String field) {
+        return SortOptions.of(s -> s.field(fs -> fs.field(field).order(SortOrder.Desc).missing(FieldValue.of(0))));
+    }
+
+    private Facets facets(SearchHits<MovieDoc> hits) {
+        if (!(hits.getAggregations() instanceof ElasticsearchAggregations aggs)) return Facets.EMPTY;
+        Map<String, ElasticsearchAggregation> map = aggs.aggregationsAsMap();
+
+        List<Bucket> genres = map.get("genres").aggregation().getAggregate().sterms().buckets().array().stream()
+                .map(bk -> new Bucket(bk.key().stringValue(), bk.docCount()))
+                .toList();
+        Map<String, Aggregate> scoped = map.get("scoped").aggregation().getAggregate().filter().aggregations();
+        List<Bucket> years = scoped.get("years").dateHistogram().buckets().array().stream()
+                .map(bk -> new Bucket(bk.keyAsString(), bk.docCount()))
+                .toList();
+        List<Bucket> ratings = scoped.get("ratings").range().buckets().array().stream()
+                .map(bk -> new Bucket(bk.key(), bk.docCount()))
+                .toList();
+        return new Facets(genres, years, ratings);
+    }
+
+    private String encodeCursor(List<Object> sortValues) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(sortValues));
+        } catch (IOException e) {
+            throw new IllegalStateException("cursor encode failed", e);
+        }
+    }
+
+    private List<Object> decodeCursor(String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<List<Object>>() {});
+        } catch (IllegalArgumentException | IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private static void validate(MovieSearchFilter f) {
+        if (f.yearFrom() != null && f.yearTo() != null && f.yearFrom() > f.yearTo()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "yearFrom must be <= yearTo");
+        }
+        if (f.minRating() != null && f.maxRating() != null && f.minRating() > f.maxRating()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minRating must be <= maxRating");
+        }
+    }
+}
@@ -1,87 +1,402 @@
 package com.duck.moodflix.movie.service;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import com.duck.moodflix.movie.config.ReindexProperties;
 import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.dto.MovieIndexRow;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import com.duck.moodflix.movie.search.IndexGeneration;
 import com.duck.moodflix.movie.search.MovieDoc;
+import com.duck.moodflix.movie.search.MovieIndexAliases;
+import com.duck.moodflix.movie.search.MovieSuggestIndex;
 import com.duck.moodflix.movie.util.HangulUtils;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.stereotype.Service;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MovieIndexService {
 
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private final ElasticsearchOperations esOps;
+    private final ElasticsearchClient esClient;
+    private final MovieIndexAliases aliases;
+    private final ReindexProperties reindexProps;
+    private final IndexGeneration generation;
+    private final MovieSuggestIndex suggestIndex;
+    private final long bulkMaxBytes;
+
+    public MovieIndexService(ElasticsearchOperations esOps,
+                             ElasticsearchClient esClient,
+                             MovieIndexAliases aliases,
+                             ReindexProperties reindexProps,
+                             IndexGeneration generation,
+                             MovieSuggestIndex suggestIndex,
+                             @Value("${moodflix.es.bulk-max-bytes:5242880}") long bulkMaxBytes) {
+        this.esOps = esOps;
+        this.esClient = esClient;
+        this.aliases = aliases;
+        this.reindexProps = reindexProps;
+        this.generation = generation;
+        this.suggestIndex = suggestIndex;
+        this.bulkMaxBytes = bulkMaxBytes;
+    }
 
     @PersistenceContext
     private EntityManager em;
 
-    /** 대량 색인: 안전하게 배치로 나눠 저장 + 저장 직후 refresh */
+    /**
+     * 증분 색인: 배치로 나눠 쓰기 별칭에 저장. refresh 는 ES 기본 주기(near-real-time)에 맡김.
+     * 재빌드 중이면 새 인덱스에도 같이 저장. 대량 재색인은 {@link #openBulk()} 사용.
+     */
     public void indexMovies(List<Movie> movies) {
         if (movies == null || movies.isEmpty()) return;
 
         final int BATCH = 500; // 필요 시 500~1000 사이로 조절
-        IndexOperations io = esOps.indexOps(MovieDoc.class);
-
         int from = 0, total = 0;
         while (from < movies.size()) {
             int to = Math.min(from + BATCH, movies.size());
+            List<MovieIndexRow> rows = movies.subList(from, to).stream()
+                    .filter(Objects::nonNull).map(MovieIndexRow::of).toList();
+            List<MovieDoc> docs = toDocs(rows);
+            if (!docs.isEmpty()) {
+                log.info("[ES] indexing batch: {} docs ({} ~ {})", docs.size(), from, to - 1);
+                esOps.save(docs, IndexCoordinates.of(MovieIndexAliases.WRITE_ALIAS));
+                String target = aliases.rebuildTarget();
+                if (target != null) esOps.save(docs, IndexCoordinates.of(target));
+                total += docs.size();
+                generation.bump(); // 검색 결과 캐시 무효화
+                suggestIndex.upsert(rows);
+            }
+            from = to;
+        }
+        log.info("[ES] indexing done. total={}", total);
+    }
+
+    /** DB 에 없는 문서 삭제 (쓰기 별칭 + 재빌드 중인 인덱스). 삭제 요청한 문서 수 반환 */
+    public int deleteDocs(Collection<Long> movieIds) {
+        if (movieIds == null || movieIds.isEmpty()) return 0;
+        List<String> targets = new ArrayList<>(List.of(MovieIndexAliases.WRITE_ALIAS));
+        String rebuild = aliases.rebuildTarget();
+        if (rebuild != null) targets.add(rebuild);
+        try {
+            for (String target : targets) {
+                esClient.bulk(b -> {
+                    for (Long id : movieIds) {
+                        b.operations(op -> op.delete(d -> d.index(target).id(String.valueOf(id))));
+                    }
+                    return b;
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("ES delete failed", e);
+        }
+        generation.bump();
+        suggestIndex.remove(movieIds);
+        log.info("[ES] deleted {} docs", movieIds.size());
+        return movieIds.size();
+    }
+
+    /** 단건 색인 (refresh 없음) */
+    public void indexMovie(Movie m) {
+        if (m == null) return;
+        indexMovies(List.of(m));
+    }
+
+    /**
+     * DB 전체 재색인 (bulk 모드). 색인 문서 수 반환.
+     * 트랜잭션 없이 호출: 청크마다 짧은 조회만 하므로 커넥션/영속성 컨텍스트를 오래 잡지 않음.
+     */
+    public int reindexAll(MovieRepository movieRepository) {
+        return reindexInto(movieRepository, aliases.writeIndex());
+    }
+
+    /**
+     * DB 전체를 지정한 실제 인덱스에 bulk 모드로 색인 (별칭 재빌드용). 색인 문서 수 반환.
+     * 3단계 파이프라인 (단계끼리 겹쳐서 진행):
+     * 1) 읽기(호출 스레드): id keyset(where id > last order by id) 으로 프로젝션 청크 조회
+     * 2) 변환(build 워커 N개): 키워드 조회 + 초성 키 + JSON 직렬화 → 바이트 단위 bulk 묶음
+     * 3) 전송(BulkSession): 동시 bulk 요청 수 상한, 429 는 거절된 문서만 백오프 후 재전송
+     * 뒤 단계가 막히면 앞 단계가 대기(semaphore)하므로 메모리는 청크 몇 개 분량으로 고정.
+     */
+    public int reindexInto(MovieRepository movieRepository, String indexName) {
+        final int chunk = Math.max(1, reindexProps.getChunkSize());
+        final int workers = reindexProps.effectiveBuildWorkers();
+        final int slots = workers * 2; // 읽기 단계가 변환보다 앞서 나가는 최대 청크 수
+        Semaphore buildSlots = new Semaphore(slots);
+        ExecutorService buildPool = Executors.newFixedThreadPool(workers, named("reindex-build-"));
+
+        long start = System.nanoTime();
+        long lastId = 0L;
+        int total = 0;
+        List<MovieSuggestIndex.Entry> suggestions = new ArrayList<>();
+        try (BulkSession bulk = openBulk(indexName)) {
+            while (true) {
+                bulk.checkFailure();
+                List<MovieIndexRow> rows = movieRepository.findIndexRowsAfter(lastId, PageRequest.of(0, chunk));
+                if (rows.isEmpty()) break;
+                for (MovieIndexRow r : rows) suggestions.add(MovieSuggestIndex.Entry.of(r));
+
+                buildSlots.acquireUninterruptibly();
+                buildPool.execute(() -> {
+                    try {
+                        bulk.add(rows);
+                    } catch (Throwable t) {
+                        bulk.fail(t);
+                    } finally {
+                        buildSlots.release();
+                    }
+                });
+                total += rows.size();
+                lastId = rows.get(rows.size() - 1).id();
+                if (rows.size() < chunk) break;
+            }
+            buildSlots.acquireUninterruptibly(slots); // 변환 단계 완료 대기 → close 에서 남은 bulk 전송
+        } finally {
+            buildPool.shutdownNow();
+        }
+        suggestIndex.replaceAll(suggestions); // 자동완성 인덱스도 같은 DB 스냅샷으로 교체
+
+        double secs = Math.max((System.nanoTime() - start) / 1e9, 1e-3);
+        log.info("[ES] reindex into {}: {} docs in {}s ({} docs/s, buildWorkers={}, inFlightBulks={})",
+                indexName, total, Math.round(secs), Math.round(total / secs), workers, reindexProps.getMaxInFlightBulks());
+        return total;
+    }
+
+    /**
+     * 대량 색인 세션 시작: refresh_interval=-1, replicas=0 으로 바꾸고
+     * 바이트 크기 기준으로 bulk 요청을 묶어 보냄. close 시 남은 문서 전송 → 설정 복구 → refresh 1회.
+     */
+    public BulkSession openBulk() {
+        return openBulk(aliases.writeIndex());
+    }
+
+    /** 별칭이 아닌 실제 인덱스 이름으로 열어야 설정 조회/변경이 그 인덱스에만 적용됨 */
+    public BulkSession openBulk(String indexName) {
+        return new BulkSession(IndexCoordinates.of(indexName));
+    }
+
+    /**
+     * bulk 전송 단계. add 는 여러 스레드에서 동시에 호출 가능.
+     * 동시 요청은 maxInFlightBulks 개까지 (초과 시 add 호출 스레드가 대기 = backpressure).
+     */
+    public final class BulkSession implements AutoCloseable {
+
+        private final IndexCoordinates index;
+        private final int maxInFlight = Math.max(1, reindexProps.getMaxInFlightBulks());
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        private final ExecutorService sendPool = Executors.newFixedThreadPool(maxInFlight, named("reindex-bulk-"));
+        private final List<IndexQuery> buffer = new ArrayList<>(); // guarded by this
+        private final String originalRefresh;
+        private final String originalReplicas;
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger retries = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private long bufferedBytes; // guarded by this
 
-            // 1) 이번 배치의 movieId 수집
-            List<Long> ids = new ArrayList<>(to - from);
-            for (int i = from; i < to; i++) {
-                Movie m = movies.get(i);
-                if (m != null && m.getId() != null) {
-                    ids.add(m.getId());
+        private BulkSession(IndexCoordinates index) {
+            this.index = index;
+            Settings current = esOps.indexOps(index).getSettings();
+            this.originalRefresh = current.getString("index.refresh_interval");
+            this.originalReplicas = current.getString("index.number_of_replicas");
+            aliases.markBulkMode(index.getIndexName(), originalRefresh, originalReplicas); // 중간에 죽으면 기동 때 복구
+            putSettings("-1", "0");
+            log.info("[ES] bulk mode on (index={}, refresh={}, replicas={})",
+                    index.getIndexName(), originalRefresh, originalReplicas);
+        }
+
+        public void add(List<MovieIndexRow> rows) {
+            var converter = esOps.getElasticsearchConverter();
+            for (MovieDoc doc : toDocs(rows)) {
+                String json = converter.mapObject(doc).toJson();
+                long bytes = json.getBytes(StandardCharsets.UTF_8).length;
+                IndexQuery query = new IndexQueryBuilder().withId(String.valueOf(doc.getId())).withSource(json).build();
+
+                List<IndexQuery> ready = null;
+                synchronized (this) {
+                    if (!buffer.isEmpty() && bufferedBytes + bytes > bulkMaxBytes) ready = drain();
+                    buffer.add(query);
+                    bufferedBytes += bytes;
                 }
+                if (ready != null) send(ready);
             }
+        }
 
-            // 2) 배치 키워드 일괄 조회: movieId -> List<String>
-            Map<Long, List<String>> kwsMap = fetchKeywordNames(ids);
+        void fail(Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+
+        void checkFailure() {
+            Throwable t = failure.get();
+            if (t == null) return;
+            if (t instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("bulk indexing failed", t);
+        }
+
+        private List<IndexQuery> drain() {
+            List<IndexQuery> out = new ArrayList<>(buffer);
+            buffer.clear();
+            bufferedBytes = 0;
+            return out;
+        }
 
-            // 3) 문서화
-            List<MovieDoc> docs = new ArrayList<>(to - from);
-            for (int i = from; i < to; i++) {
-                Movie m = movies.get(i);
-                if (m == null) continue;
-                List<String> kws = kwsMap.getOrDefault(m.getId(), List.of());
-                docs.add(toDoc(m, kws));
+        private void send(List<IndexQuery> batch) {
+            checkFailure();
+            inFlight.acquireUninterruptibly();
+            try {
+                sendPool.execute(() -> {
+                    try {
+                        sendWithRetry(batch);
+                    } catch (Throwable t) {
+                        fail(t);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
             }
+        }
 
-            // 4) 색인 + refresh
-            if (!docs.isEmpty()) {
-                log.info("[ES] indexing batch: {} docs ({} ~ {})", docs.size(), from, to - 1);
-                esOps.save(docs);
-                io.refresh(); // 즉시 검색/카운트 반영
-                total += docs.size();
+        /** 429 는 거절된 문서만 골라 지수 백오프 후 재전송, 그 외 실패는 즉시 중단 */
+        private void sendWithRetry(List<IndexQuery> batch) {
+            List<IndexQuery> pending = batch;
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    esOps.bulkIndex(pending, index);
+                    requests.incrementAndGet();
+                    total.addAndGet(pending.size());
+                    return;
+                } catch (BulkFailureException e) {
+                    requests.incrementAndGet();
+                    Map<String, BulkFailureException.FailureDetails> failed = e.getFailedDocuments();
+                    boolean onlyRejected = failed.values().stream()
+                            .allMatch(d -> d.status() != null && d.status() == TOO_MANY_REQUESTS);
+                    if (!onlyRejected) throw e;
+                    total.addAndGet(pending.size() - failed.size());
+                    pending = pending.stream().filter(q -> failed.containsKey(q.getId())).toList();
+                } catch (RuntimeException e) {
+                    if (!isTooManyRequests(e)) throw e;
+                }
+                if (attempt >= reindexProps.getMaxRetries()) {
+                    throw new IllegalStateException("bulk still rejected by ES after "
+                            + attempt + " retries (" + pending.size() + " docs)");
+                }
+                retries.incrementAndGet();
+                sleep(backoff(attempt));
             }
+        }
 
-            from = to;
+        @Override
+        public void close() {
+            try {
+                List<IndexQuery> rest;
+                synchronized (this) {
+                    rest = drain();
+                }
+                if (!rest.isEmpty() && failure.get() == null) send(rest);
+                inFlight.acquireUninterruptibly(maxInFlight); // 나가 있는 bulk 전부 완료 대기
+                inFlight.release(maxInFlight);
+            } finally {
+                sendPool.shutdownNow();
+                // 원래 값이 없으면 ES 기본값(1s)/현재 복제본 수 유지
+                putSettings(originalRefresh == null ? "1s" : originalRefresh,
+                        originalReplicas == null ? "1" : originalReplicas);
+                aliases.clearBulkMode(index.getIndexName());
+                esOps.indexOps(index).refresh();
+                generation.bump();
+                log.info("[ES] bulk mode off: {} docs in {} bulk requests ({} retries after 429)",
+                        total.get(), requests.get(), retries.get());
+            }
+            checkFailure();
+        }
+
+        private void putSettings(String refresh, String replicas) {
+            aliases.putSettings(index.getIndexName(), refresh, replicas);
         }
-        log.info("[ES] indexing done. total={}", total);
     }
 
-    /** 단건 색인: 저장 직후 refresh */
-    public void indexMovie(Movie m) {
-        if (m == null) return;
+    private Duration backoff(int attempt) {
+        long base = reindexProps.getRetryBackoff().toMillis();
+        long capped = Math.min(reindexProps.getMaxRetryBackoff().toMillis(), base << Math.min(attempt, 20));
+        // 여러 전송 스레드가 같은 순간에 몰리지 않도록 50~100% 지터
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
 
-        // 단건일 때도 키워드 쿼리로 안전하게 조회
-        List<String> kws = (m.getId() == null)
-                ? List.of()
-                : fetchKeywordNames(List.of(m.getId())).getOrDefault(m.getId(), List.of());
+    private static void sleep(Duration d) {
+        try {
+            Thread.sleep(d.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("bulk retry interrupted", e);
+        }
+    }
 
-        esOps.save(toDoc(m, kws));
-        esOps.indexOps(MovieDoc.class).refresh();
+    /** 요청 전체가 429 로 거절된 경우 (ES 쓰기 큐 포화) */
+    private static boolean isTooManyRequests(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof UncategorizedElasticsearchException u
+                    && Integer.valueOf(TOO_MANY_REQUESTS).equals(u.getStatusCode())) return true;
+            if (t instanceof ElasticsearchException ee && ee.status() == TOO_MANY_REQUESTS) return true;
+        }
+        return false;
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private List<MovieDoc> toDocs(List<MovieIndexRow> rows) {
+        // 배치 키워드 일괄 조회: movieId -> List<String>
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (MovieIndexRow r : rows) {
+            if (r.id() != null) ids.add(r.id());
+        }
+        Map<Long, List<String>> kwsMap = fetchKeywordNames(ids);
+
+        List<MovieDoc> docs = new ArrayList<>(rows.size());
+        for (MovieIndexRow r : rows) {
+            docs.add(toDoc(r, kwsMap.getOrDefault(r.id(), List.of())));
+        }
+        return docs;
     }
 
     /** 배치로 영화 키워드 이름 일괄 조회 (N+1 / LAZY 회피) */
@@ -107,8 +422,8 @@ public class MovieIndexService {
         ));
     }
 
-    private MovieDoc toDoc(Movie m, List<String> keywordNames) {
-        String title = (m.getTitle() == null) ? "" : m.getTitle();
+    private MovieDoc toDoc(MovieIndexRow m, List<String> keywordNames) {
+        String title = (m.title() == null) ? "" : m.title();
         String choseong = HangulUtils.toChoseongKey(title);
 
         List<String> kws = (keywordNames == null ? List.<String>of() : keywordNames).stream()
@@ -118,21 +433,22 @@ public class MovieIndexService {
                 .limit(50)
                 .toList();
 
-        Double popularity = (m.getPopularity() == null) ? 0.0 : m.getPopularity();
-        Double voteAvg    = (m.getVoteAverage() == null) ? 0.0 : m.getVoteAverage();
+        Double popularity = (m.popularity() == null) ? 0.0 : m.popularity();
+        Double voteAvg    = (m.voteAverage() == null) ? 0.0 : m.voteAverage();
 
         return MovieDoc.builder()
-                .id(m.getId())
-                .tmdbId(m.getTmdbId())
+                .id(m.id())
+                .tmdbId(m.tmdbId())
                 .title(title)
                 .titleChoseong(choseong)
-                .posterUrl(m.getPosterUrl())
-                .genre(m.getGenre())
+                .posterUrl(m.posterUrl())
+                .genre(m.genre())
                 .keywords(kws)
-                .adult(m.isAdult())
-                .releaseDate(m.getReleaseDate())
+                .adult(m.adult())
+                .releaseDate(m.releaseDate())
                 .popularity(popularity)
                 .voteAverage(voteAvg)
+                .syncHash(m.syncHash())
                 .build();
     }
 }
@@ -1,60 +1,121 @@
 package com.duck.moodflix.movie.service;
 
 import com.duck.moodflix.movie.client.TMDbClient;
+import com.duck.moodflix.movie.client.TMDbDetailCache;
 import com.duck.moodflix.movie.domain.entity.Movie;
 import com.duck.moodflix.movie.dto.response.MovieDetailResponse;
 import com.duck.moodflix.movie.dto.response.MovieSummaryResponse;
+import com.duck.moodflix.movie.dto.response.MovieSummaryScrollResponse;
+import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
 import com.duck.moodflix.movie.dto.tmdb.reviews.ReviewsPageDto;
 import com.duck.moodflix.movie.mapper.MovieDetailAssembler;
 import com.duck.moodflix.movie.repository.MovieRepository;
 import com.duck.moodflix.movie.repository.TmdbReviewRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class MovieQueryService {
 
     private final MovieRepository movieRepository;
-    private final TMDbClient tmdbClient;                 // TMDb 상세/리뷰 호출
+    private final TMDbClient tmdbClient;                 // TMDb 리뷰 호출
+    private final TMDbDetailCache detailCache;           // TMDb 상세 로컬 캐시
     private final MovieDetailAssembler detailAssembler;  // 상세 응답 조립
     private final TmdbReviewRepository reviewRepo;       // 리뷰 폴백
-
-    /** ✅ 페이징 요약 조회 */
+    private final MovieSnapshotService snapshotService;  // DB 상세 스냅샷
+    private final MovieSearchDocService searchDocs;      // DB 전문 검색 (ngram FULLTEXT)
+
+    /** 목록 전체 개수 캐시 - 페이지마다 count(*) 하지 않음 (동기화로 늘어난 수는 TTL 후 반영) */
+    private static final Duration SUMMARY_COUNT_TTL = Duration.ofMinutes(1);
+    private final Cache<Boolean, Long> summaryCounts = Caffeine.newBuilder()
+            .expireAfterWrite(SUMMARY_COUNT_TTL)
+            .build();
+
+    /**
+     * ✅ 페이징 요약 조회: (adult, id) 인덱스로 id 페이지만 정한 뒤 요약 컬럼만 레코드로 조회.
+     * overview TEXT / 엔티티를 읽지 않고, 전체 개수는 캐시 값 사용 (마지막 페이지 등 셀 필요 없으면 생략)
+     */
     @Transactional(readOnly = true)
     public Page<MovieSummaryResponse> getMovieSummaries(Pageable pageable, boolean includeAdult) {
-        Page<Movie> pg = includeAdult
-                ? movieRepository.findAll(pageable)
-                : movieRepository.findByAdultFalse(pageable);
+        List<Long> ids = includeAdult
+                ? movieRepository.findAllIds(pageable)
+                : movieRepository.findNonAdultIds(pageable);
+        List<MovieSummaryResponse> content = ids.isEmpty() ? List.of() : movieRepository.findSummariesByIdIn(ids);
+        return PageableExecutionUtils.getPage(content, pageable, () -> summaryCount(includeAdult));
+    }
 
-        return pg.map(this::toSummary);
+    /** keyset 요약 조회: id 가 after 보다 큰 다음 size 건 (OFFSET 없이 깊은 페이지도 일정 비용) */
+    @Transactional(readOnly = true)
+    public MovieSummaryScrollResponse scrollMovieSummaries(Long after, int size, boolean includeAdult) {
+        long from = after == null ? 0L : after;
+        Pageable limit = PageRequest.of(0, size);
+        List<MovieSummaryResponse> content = includeAdult
+                ? movieRepository.findSummariesAfter(from, limit)
+                : movieRepository.findNonAdultSummariesAfter(from, limit);
+        Long next = content.size() == size ? content.get(size - 1).id() : null;
+        return new MovieSummaryScrollResponse(content, next, summaryCount(includeAdult));
     }
 
-    private MovieSummaryResponse toSummary(Movie m) {
-        return new MovieSummaryResponse(
-                m.getId(),
-                m.getTmdbId(),
-                m.getTitle(),
-                m.getPosterUrl(),
-                m.getGenre(),
-                m.getReleaseDate(),
-                m.getVoteAverage()
-        );
+    /** 목록 전체 개수 (성인물 포함 여부별, SUMMARY_COUNT_TTL 동안 재사용) */
+    private long summaryCount(boolean includeAdult) {
+        return summaryCounts.get(includeAdult,
+                k -> k ? movieRepository.count() : movieRepository.countByAdultFalse());
     }
 
-    /** 상세: ko-KR(append) → en-US(API) → DB 저장분 순 폴백으로 reviewsTop 보강 */
+    /**
+     * 상세: 신선한 DB 스냅샷이 있으면 TMDb 없이 조립(리뷰는 DB 저장분).
+     * 없거나 오래됐으면 ko-KR(append, 로컬 캐시) → 스냅샷 갱신 → en-US(API) → DB 저장분 순 폴백으로 reviewsTop 보강.
+     * TMDb 실패 시에는 오래된 스냅샷이라도 사용.
+     */
     @Transactional(readOnly = true)
     public MovieDetailResponse getMovieDetailResponse(Long id) {
         Movie m = movieRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("영화를 찾을 수 없습니다. ID: " + id));
 
-        // 1) TMDb ko-KR 상세 + 기본 조립
-        var detail = tmdbClient.getMovieDetail(m.getTmdbId());
+        // 0) DB 스냅샷 우선
+        var stored = snapshotService.find(m.getId());
+        if (stored.isPresent() && stored.get().fresh()) {
+            var s = stored.get();
+            return withReviews(detailAssembler.assemble(m, s.details(), s.snapshot(), s.credits()), storedReviews(m));
+        }
+
+        // 1) TMDb ko-KR 상세(로컬 캐시 경유) + 기본 조립
+        TMDbMovieDetailDto detail = null;
+        try {
+            detail = detailCache.get(m.getTmdbId());
+        } catch (Exception e) {
+            if (stored.isEmpty()) throw e;
+            log.warn("TMDb detail failed, serving stale snapshot. movieId={}, err={}", m.getId(), e.toString());
+        }
+        if (detail == null && stored.isPresent()) {
+            var s = stored.get();
+            return withReviews(detailAssembler.assemble(m, s.details(), s.snapshot(), s.credits()), storedReviews(m));
+        }
+        if (detail != null) {
+            try {
+                snapshotService.refresh(m.getId(), detail);
+            } catch (Exception e) {
+                log.warn("snapshot refresh failed. movieId={}, err={}", m.getId(), e.toString());
+            }
+        }
         var resp = detailAssembler.assemble(m, detail);
 
         // 2) ko-KR 리뷰가 이미 있으면 그대로 반환
@@ -78,19 +139,16 @@ public class MovieQueryService {
                     ))
                     .toList();
 
-            return new MovieDetailResponse(
-                    resp.id(), resp.tmdbId(), resp.title(), resp.originalTitle(), resp.status(),
-                    resp.overview(), resp.posterUrl(), resp.releaseDate(), resp.runtime(),
-                    resp.genres(), resp.keywords(), resp.countryCode(), resp.countryName(),
-                    resp.certification(), resp.voteAverage(), resp.voteCount(), resp.popularity(),
-                    resp.budget(), resp.revenue(), resp.videos(), resp.posters(), resp.backdrops(),
-                    resp.castTop(), resp.crewCore(), resp.similar(), resp.recommendations(), enTop
-            );
+            return withReviews(resp, enTop);
         }
 
         // 4) DB 저장분 폴백 (createdAtTmdb 내림차순 5개)
+        return withReviews(resp, storedReviews(m));
+    }
+
+    private List<MovieDetailResponse.ReviewItem> storedReviews(Movie m) {
         var stored = reviewRepo.findTop5ByMovie_IdOrderByCreatedAtTmdbDesc(m.getId());
-        var storedMapped = stored.stream()
+        return stored.stream()
                 .map(s -> new MovieDetailResponse.ReviewItem(
                         s.getAuthor(),
                         s.getRating(),
@@ -100,14 +158,16 @@ public class MovieQueryService {
                         null
                 ))
                 .toList();
+    }
 
+    private MovieDetailResponse withReviews(MovieDetailResponse resp, List<MovieDetailResponse.ReviewItem> reviews) {
         return new MovieDetailResponse(
                 resp.id(), resp.tmdbId(), resp.title(), resp.originalTitle(), resp.status(),
                 resp.overview(), resp.posterUrl(), resp.releaseDate(), resp.runtime(),
                 resp.genres(), resp.keywords(), resp.countryCode(), resp.countryName(),
                 resp.certification(), resp.voteAverage(), resp.voteCount(), resp.popularity(),
                 resp.budget(), resp.revenue(), resp.videos(), resp.posters(), resp.backdrops(),
-                resp.castTop(), resp.crewCore(), resp.similar(), resp.recommendations(), storedMapped
+                resp.castTop(), resp.crewCore(), resp.similar(), resp.recommendations(), reviews
         );
     }
 
@@ -121,13 +181,18 @@ public class MovieQueryService {
     public Page<MovieSummaryResponse> searchMovies(String q, boolean includeAdult, Pageable pageable) {
         String norm = (q == null) ? "" : q.trim();
         if (norm.isEmpty()) {
-            Page<Movie> page = includeAdult
-                    ? movieRepository.findAll(pageable)                 // 필요시 기본 정렬 포함
-                    : movieRepository.findByAdultFalse(pageable);
-            return page.map(this::toSummary);
+            return getMovieSummaries(pageable, includeAdult);
         }
-        return movieRepository.searchByText(norm, includeAdult, pageable)
-                .map(this::toSummary);
+        // FULLTEXT 로 id 페이지만 구한 뒤 요약 컬럼만 PK 로 한 번에 조회 (검색 순서 유지)
+        Page<Long> ids = searchDocs.searchIds(norm, includeAdult, pageable);
+        if (ids.getContent().isEmpty()) return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        Map<Long, MovieSummaryResponse> byId = movieRepository.findSummariesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(MovieSummaryResponse::id, Function.identity()));
+        List<MovieSummaryResponse> content = ids.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
     }
 
 }
@@ -0,0 +1,219 @@
+package com.duck.moodflix.movie.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 전문 검색 (movie_search_docs + MySQL ngram FULLTEXT).
+ * 예전 searchByText(LIKE '%q%' + 5중 조인 + distinct, 인덱스 불가 → 전체 스캔)를 대체.
+ * - 갱신: outbox 워커가 ES 색인과 같은 배치로 refresh (INSERT ... SELECT ... ON DUPLICATE KEY UPDATE)
+ * - 검색: MATCH ... AGAINST 구문(phrase) 검색 → ngram 토큰이 연속으로 일치 = 부분 문자열 일치
+ * - 개수: 단일 테이블 FULLTEXT COUNT, COUNT_CAP 에서 자름 (ES track_total_hits 와 같은 방식)
+ */
+@Service
+@Slf4j
+public class MovieSearchDocService {
+
+    private static final String FT_TITLE = "ft_search_title_nostop";
+    private static final String FT_ALL = "ft_search_all_nostop";
+    /** 불용어 목록을 켠 채 만들어진 예전 인덱스 - 있으면 지우고 위 이름으로 다시 만듦 */
+    private static final List<String> LEGACY_FT = List.of("ft_movie_search_title", "ft_movie_search_all");
+    private static final int COUNT_CAP = 10_000;
+    private static final int BACKFILL_CHUNK = 2_000;
+    private static final int REFRESH_CHUNK = 500;
+
+    /** 영화 → 검색 행 (장르 + 키워드 + 인물 이름) */
+    private static final String UPSERT_SELECT = """
+            INSERT INTO movie_search_docs (movie_id, title, terms, adult, popularity, updated_at)
+            SELECT m.id, m.title,
+                   CONCAT_WS(' ', m.genre,
+                       (SELECT GROUP_CONCAT(k.name SEPARATOR ' ')
+                          FROM movie_keywords mk JOIN keywords k ON k.id = mk.keyword_id
+                         WHERE mk.movie_id = m.id),
+                       (SELECT GROUP_CONCAT(DISTINCT p.name SEPARATOR ' ')
+                          FROM credits c JOIN persons p ON p.id = c.person_id
+                         WHERE c.movie_id = m.id)),
+                   m.adult, m.popularity, NOW()
+              FROM movies m
+            """;
+    private static final String ON_DUPLICATE = """
+             ON DUPLICATE KEY UPDATE title = VALUES(title), terms = VALUES(terms), adult = VALUES(adult),
+                                     popularity = VALUES(popularity), updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final Timer latency;
+
+    public MovieSearchDocService(JdbcTemplate jdbcTemplate, TransactionTemplate tx, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = tx;
+        this.latency = Timer.builder("moodflix.search.db.latency")
+                .description("DB 전문 검색 시간 (movie_search_docs)")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    /** 기동 시: FULLTEXT 인덱스 보장 + 검색 행이 없는 영화만 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        try {
+            for (String legacy : LEGACY_FT) dropIndexIfExists(legacy);
+            ensureFullTextIndex(FT_TITLE, "title");
+            ensureFullTextIndex(FT_ALL, "title, terms");
+            long start = System.currentTimeMillis();
+            int filled = backfillMissing();
+            if (filled > 0) log.info("[SearchDocs] backfilled {} rows in {}ms", filled, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[SearchDocs] startup preparation failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 지정 영화의 검색 행 재생성 (DB 에서 사라진 영화는 행 삭제).
+     * outbox 워커가 행 점유 트랜잭션 밖에서 호출 → 실패하면 이 트랜잭션만 롤백되고 재시도는 outbox 백오프로
+     */
+    @Transactional
+    public void refresh(Collection<Long> movieIds) {
+        List<Long> ids = movieIds == null ? List.of()
+                : movieIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return;
+        raiseGroupConcatLimit();
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK) {
+            Object[] chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK, ids.size())).toArray();
+            String in = placeholders(chunk.length);
+            jdbcTemplate.update(UPSERT_SELECT + " WHERE m.id IN (" + in + ")" + ON_DUPLICATE, chunk);
+            jdbcTemplate.update("DELETE FROM movie_search_docs WHERE movie_id IN (" + in + ") "
+                    + "AND NOT EXISTS (SELECT 1 FROM movies m WHERE m.id = movie_search_docs.movie_id)", chunk);
+        }
+    }
+
+    /** 검색 행이 없는 영화를 id 구간 단위로 채움 (구간마다 별도 트랜잭션) */
+    public int backfillMissing() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM movies", Long.class);
+        int total = 0;
+        for (long lo = 0; maxId != null && lo <= maxId; lo += BACKFILL_CHUNK) {
+            long from = lo, to = lo + BACKFILL_CHUNK;
+            Integer n = tx.execute(status -> {
+                raiseGroupConcatLimit();
+                return jdbcTemplate.update(UPSERT_SELECT
+                        + " WHERE m.id >= ? AND m.id < ?"
+                        + " AND NOT EXISTS (SELECT 1 FROM movie_search_docs d WHERE d.movie_id = m.id)", from, to);
+            });
+            total += n == null ? 0 : n;
+        }
+        return total;
+    }
+
+    /**
+     * 검색어와 일치하는 영화 id (제목 일치 우선, 그다음 popularity 순).
+     * 전체 개수는 다음 페이지가 있을 때만 세고 COUNT_CAP 에서 자름.
+     */
+    public Page<Long> searchIds(String q, boolean includeAdult, Pageable pageable) {
+        long start = System.nanoTime();
+        try {
+            String against = toBooleanQuery(q);
+            if (against.isEmpty()) return Page.empty(pageable);
+            String adult = includeAdult ? "" : " AND adult = 0";
+
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT movie_id FROM movie_search_docs "
+                            + "WHERE MATCH(title, terms) AGAINST (? IN BOOLEAN MODE)" + adult
+                            + " ORDER BY MATCH(title) AGAINST (? IN BOOLEAN MODE) DESC, popularity DESC, movie_id"
+                            + " LIMIT ? OFFSET ?",
+                    Long.class, against, against, pageable.getPageSize(), pageable.getOffset());
+            return PageableExecutionUtils.getPage(ids, pageable, () -> jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM (SELECT 1 FROM movie_search_docs "
+                            + "WHERE MATCH(title, terms) AGAINST (? IN BOOLEAN MODE)" + adult
+                            + " LIMIT " + COUNT_CAP + ") t",
+                    Long.class, against));
+        } finally {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 사용자 입력 → BOOLEAN MODE 식. 연산자 문자는 지우고 전체를 구문("...")으로 묶음.
+     * 한 글자는 ngram 토큰(기본 2)보다 짧아 구문 일치가 안 되므로 접두 와일드카드로.
+     */
+    static String toBooleanQuery(String q) {
+        if (q == null) return "";
+        StringBuilder sb = new StringBuilder(q.length() + 2);
+        boolean space = false;
+        for (int i = 0; i < q.length(); i++) {
+            char ch = q.charAt(i);
+            if ("+-<>()~*\"@".indexOf(ch) >= 0 || Character.isWhitespace(ch)) {
+                space = sb.length() > 0;
+                continue;
+            }
+            if (space) sb.append(' ');
+            space = false;
+            sb.append(Character.toLowerCase(ch));
+        }
+        if (sb.isEmpty()) return "";
+        if (sb.codePointCount(0, sb.length()) == 1) return sb.append('*').toString();
+        return "\"" + sb + "\"";
+    }
+
+    /**
+     * ngram 파서는 불용어가 들어간 토큰을 통째로 버림 → InnoDB 기본 영어 불용어("a", "i" 등)가 켜져 있으면
+     * 라틴 문자 제목/인물 이름 대부분이 색인되지 않음. 불용어 설정은 인덱스를 만들 때 적용되므로
+     * ALTER 와 같은 커넥션 세션에서만 innodb_ft_enable_stopword 를 끄고 만든 뒤 되돌림.
+     * (세션 변수를 바꿀 수 없는 환경이면 서버 설정 innodb_ft_enable_stopword=OFF 후 인덱스를 지우고 재기동)
+     */
+    private void ensureFullTextIndex(String name, String columns) {
+        if (indexExists(name)) return;
+        String ddl = "ALTER TABLE movie_search_docs ADD FULLTEXT INDEX " + name
+                + " (" + columns + ") WITH PARSER ngram";
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (Statement st = con.createStatement()) {
+                st.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                try {
+                    st.execute(ddl);
+                } finally {
+                    st.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                }
+            }
+            return null;
+        });
+        log.info("[SearchDocs] FULLTEXT index {} ({}) created without stopwords", name, columns);
+    }
+
+    private void dropIndexIfExists(String name) {
+        if (!indexExists(name)) return;
+        jdbcTemplate.execute("ALTER TABLE movie_search_docs DROP INDEX " + name);
+        log.info("[SearchDocs] dropped stopword-filtered FULLTEXT index {}", name);
+    }
+
+    private boolean indexExists(String name) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'movie_search_docs' AND index_name = ?",
+                Integer.class, name);
+        return exists != null && exists > 0;
+    }
+
+    /** GROUP_CONCAT 기본 상한(1024바이트)이면 출연진 이름이 잘림 → 같은 커넥션 세션에서만 올림 */
+    private void raiseGroupConcatLimit() {
+        jdbcTemplate.execute("SET SESSION group_concat_max_len = 1048576");
+    }
+
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+}
@@ -1,8 +1,19 @@
 package com.duck.moodflix.movie.service;
 
+import com.duck.moodflix.movie.config.SearchCacheProperties;
+import com.duck.moodflix.movie.dto.response.MovieSummaryResponse;
+import com.duck.moodflix.movie.search.IndexGeneration;
 import com.duck.moodflix.movie.search.MovieDoc;
+import com.duck.moodflix.movie.search.MovieSuggestIndex;
+import com.duck.moodflix.movie.search.SearchCircuitBreaker;
+import com.duck.moodflix.movie.search.SearchUnavailableException;
 import com.duck.moodflix.movie.util.HangulUtils;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.*;
@@ -10,19 +21,124 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType.BestFields;
 
+/**
+ * 영화 검색 (ES).
+ * 결과 캐시: 키 = (인덱스 세대, 정규화한 질의, 페이지, 크기), TTL + 최대 항목 수.
+ * MovieIndexService 가 쓰기마다 세대를 올리므로 색인 변경 후에는 자연히 새 키로 조회됨.
+ * 같은 키 동시 미스는 첫 요청 스레드만 ES 를 호출하고 나머지는 같은 future 를 기다림 (캐시 잠금 밖에서 적재).
+ * 메트릭: cache.gets{cache=movie.search,result=hit|miss} (hit ratio), cache.evictions 등
+ * ES 호출은 SearchCircuitBreaker 를 거치고, 쓸 수 없으면 searchWithFallback 이 DB 전문 검색으로 대체 (degraded).
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class MovieSearchService {
 
-    private final ElasticsearchOperations esOps;
     private static final String EXACT_FIELD = "title.exact";
 
+    private record CacheKey(long generation, String query, int page, int size) {}
+
+    /** 검색 결과 + DB 대체 검색 여부 */
+    public record SearchResult(Page<MovieDoc> page, boolean degraded) {}
+
+    private final ElasticsearchOperations esOps;
+    private final IndexGeneration generation;
+    private final MovieSuggestIndex titleIndex;
+    private final SearchCircuitBreaker breaker;
+    private final MovieQueryService dbSearch;
+    private final int maxCachedPage;
+    private final AsyncCache<CacheKey, Page<MovieDoc>> cache;
+    private final Counter fallbacks;
+
+    public MovieSearchService(ElasticsearchOperations esOps,
+                              IndexGeneration generation,
+                              MovieSuggestIndex titleIndex,
+                              SearchCircuitBreaker breaker,
+                              MovieQueryService dbSearch,
+                              SearchCacheProperties props,
+                              MeterRegistry registry) {
+        this.esOps = esOps;
+        this.generation = generation;
+        this.titleIndex = titleIndex;
+        this.breaker = breaker;
+        this.dbSearch = dbSearch;
+        this.maxCachedPage = props.getMaxPage();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(props.getMaxEntries())
+                .expireAfterWrite(props.getTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "movie.search");
+        this.fallbacks = Counter.builder("moodflix.search.fallback")
+                .description("ES 대신 DB 로 처리한 검색 수").register(registry);
+    }
+
+    /** ES 를 쓸 수 없으면(차단기 열림/타임아웃/오류) DB 전문 검색으로 대체해 degraded=true 로 반환 */
+    public SearchResult searchWithFallback(String q, Pageable pageable) {
+        try {
+            return new SearchResult(search(q, pageable), false);
+        } catch (SearchUnavailableException e) {
+            fallbacks.increment();
+            log.debug("[Search] ES unavailable ({}), falling back to DB", e.getMessage());
+            // ES 검색과 같이 성인물 필터 없이
+            Page<MovieDoc> page = dbSearch.searchMovies(q, true, pageable).map(MovieSearchService::fromSummary);
+            return new SearchResult(page, true);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Page<MovieDoc> search(String q, Pageable pageable) {
         String raw = (q == null) ? "" : q.trim();
+        if ((HangulUtils.isChoseongQuery(raw) || HangulUtils.isMixedChoseongQuery(raw)) && titleIndex.isLoaded()) {
+            // 초성 질의("ㄱㅅ")/초성+음절 혼합 질의("ㄱ세")는 인메모리 접두어 인덱스로 (ES/캐시 거치지 않음)
+            return titleIndex.searchChoseong(raw, pageable).map(MovieSearchService::toDoc);
+        }
+        if (pageable.getPageNumber() >= maxCachedPage || !generation.settled()) {
+            return guardedQuery(raw, pageable);
+        }
+        // 대소문자/전각/공백만 다른 질의는 같은 결과 → 정규화한 값으로 키를 잡음
+        CacheKey key = new CacheKey(generation.current(), normalizeForExact(raw),
+                pageable.getPageNumber(), pageable.getPageSize());
+        // 미스일 때만 빈 future 를 등록 → ES 호출은 compute 잠금 밖에서 호출 스레드가 직접
+        AtomicReference<CompletableFuture<Page<MovieDoc>>> created = new AtomicReference<>();
+        CompletableFuture<Page<MovieDoc>> f = cache.get(key, (k, executor) -> {
+            CompletableFuture<Page<MovieDoc>> loading = new CompletableFuture<>();
+            created.set(loading);
+            return loading;
+        });
+
+        CompletableFuture<Page<MovieDoc>> loading = created.get();
+        if (loading != null) {
+            try {
+                loading.complete(guardedQuery(raw, pageable));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        return join(f);
+    }
+
+    private static Page<MovieDoc> join(CompletableFuture<Page<MovieDoc>> f) {
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            // SearchUnavailableException 을 그대로 올려야 searchWithFallback 이 DB 로 대체
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /** 차단기 경유 ES 검색 (실패한 future 는 캐시에서 제거됨) */
+    private Page<MovieDoc> guardedQuery(String raw, Pageable pageable) {
+        return breaker.call(() -> query(raw, pageable));
+    }
+
+    private Page<MovieDoc> query(String raw, Pageable pageable) {
         if (raw.isEmpty()) {
             NativeQuery nq = NativeQuery.builder()
                     .withQuery(qb -> qb.matchAll(m -> m))
@@ -36,16 +152,30 @@ public class MovieSearchService {
             return toPage(esOps.search(nq, MovieDoc.class), pageable);
         }
 
-        Page<MovieDoc> exact = tryExactTitle(raw);
+        // 정확 제목 조회 + 본 검색을 _msearch 한 번으로 (예전엔 정확 조회 미스 시 왕복 2회)
+        List<SearchHits<MovieDoc>> results = esOps.multiSearch(
+                List.of(exactTitleQuery(raw), fullQuery(raw, pageable)), MovieDoc.class);
+        Page<MovieDoc> exact = firstExact(results.get(0));
         if (exact != null) return exact;
 
-        boolean isCho = HangulUtils.isChoseongQuery(raw);
-        NativeQuery nq = isCho
+        return postFilter(results.get(1), normalizeForExact(raw), pageable);
+    }
+
+    /** 정확 제목(title.exact) 1건: 평점 높은 순 (src/jmh SearchLatencyBenchmark 에서도 사용) */
+    static NativeQuery exactTitleQuery(String raw) {
+        String normalized = normalizeForExact(raw);
+        return NativeQuery.builder()
+                .withQuery(qb -> qb.term(t -> t.field(EXACT_FIELD).value(normalized)))
+                .withPageable(PageRequest.of(0, 1))
+                .withSort(Sort.by(Sort.Order.desc("voteAverage"), Sort.Order.desc("tmdbId")))
+                .build();
+    }
+
+    /** 본 검색: 초성 질의면 초성 필드 접두어(인메모리 인덱스 적재 전에만), 아니면 제목/키워드/장르 multi_match (벤치마크에서도 사용) */
+    static NativeQuery fullQuery(String raw, Pageable pageable) {
+        return HangulUtils.isChoseongQuery(raw)
                 ? NativeQuery.builder()
-                .withQuery(qb -> qb.bool(b -> b
-                        .should(s -> s.prefix(p -> p.field("titleChoseong.raw").value(raw)))
-                        .should(s -> s.match(mq -> mq.field("titleChoseong.ngram").query(raw)))
-                ))
+                .withQuery(qb -> qb.prefix(p -> p.field("titleChoseong.raw").value(HangulUtils.toChoseongKey(raw))))
                 .withPageable(pageable)
                 .withSort(Sort.by(
                         Sort.Order.desc("_score"),
@@ -68,10 +198,10 @@ public class MovieSearchService {
                         Sort.Order.desc("tmdbId")
                 ))
                 .build();
+    }
 
-        SearchHits<MovieDoc> hits = esOps.search(nq, MovieDoc.class);
-
-        String normOrig = normalizeForExact(raw);
+    /** 본 검색 결과 안에 정규화 제목이 같은 영화가 있으면 그 1건만 */
+    private Page<MovieDoc> postFilter(SearchHits<MovieDoc> hits, String normOrig, Pageable pageable) {
         List<MovieDoc> exactInResults = hits.stream()
                 .map(SearchHit::getContent)
                 .filter(d -> normalizeForExact(d.getTitle()).equals(normOrig))
@@ -87,14 +217,7 @@ public class MovieSearchService {
         return toPage(hits, pageable);
     }
 
-    private Page<MovieDoc> tryExactTitle(String rawTitle) {
-        String normalized = normalizeForExact(rawTitle);
-        NativeQuery termExact = NativeQuery.builder()
-                .withQuery(qb -> qb.term(t -> t.field(EXACT_FIELD).value(normalized)))
-                .withPageable(PageRequest.of(0, 1))
-                .withSort(Sort.by(Sort.Order.desc("voteAverage"), Sort.Order.desc("tmdbId")))
-                .build();
-        SearchHits<MovieDoc> termHits = esOps.search(termExact, MovieDoc.class);
+    private Page<MovieDoc> firstExact(SearchHits<MovieDoc> termHits) {
         if (termHits.getTotalHits() > 0) {
             var one = termHits.stream().map(SearchHit::getContent).limit(1).toList();
             return new PageImpl<>(one, PageRequest.of(0, 1), 1);
@@ -102,7 +225,7 @@ public class MovieSearchService {
         return null;
     }
 
-    private String normalizeForExact(String s) {
+    private static String normalizeForExact(String s) {
         if (s == null) return "";
         // ES normalizer(title.exact)와 동일 규칙 유지:
         // NFKC → 전각 콜론/대시 통일 → 다중 공백 축소/trim → lowercase
@@ -115,6 +238,36 @@ public class MovieSearchService {
         return t.toLowerCase();
     }
 
+    /** 인메모리 항목 → 검색 응답 문서 (키워드는 인메모리 인덱스에 없어 빈 목록) */
+    private static MovieDoc toDoc(MovieSuggestIndex.Entry e) {
+        return MovieDoc.builder()
+                .id(e.id())
+                .tmdbId(e.tmdbId())
+                .title(e.title())
+                .posterUrl(e.posterUrl())
+                .genre(e.genre())
+                .keywords(List.of())
+                .adult(e.adult())
+                .releaseDate(e.releaseDate())
+                .popularity(e.popularity())
+                .voteAverage(e.voteAverage())
+                .build();
+    }
+
+    /** DB 검색 결과 → 검색 응답 문서 (키워드/인기도는 요약 응답에 없음) */
+    private static MovieDoc fromSummary(MovieSummaryResponse m) {
+        return MovieDoc.builder()
+                .id(m.id())
+                .tmdbId(m.tmdbId())
+                .title(m.title())
+                .posterUrl(m.posterUrl())
+                .genre(m.genre())
+                .keywords(List.of())
+                .releaseDate(m.releaseDate())
+                .voteAverage(m.voteAverage())
+                .build();
+    }
+
     private Page<MovieDoc> toPage(SearchHits<MovieDoc> hits, Pageable pageable) {
         List<MovieDoc> content = hits.stream().map(SearchHit::getContent).toList();
         long total = hits.getTotalHits();
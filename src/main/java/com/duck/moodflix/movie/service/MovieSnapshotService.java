@@ -0,0 +1,211 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.domain.entity.Credit;
+import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.domain.entity.MovieDetails;
+import com.duck.moodflix.movie.domain.entity.Person;
+import com.duck.moodflix.movie.dto.MovieDetailSnapshot;
+import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
+import com.duck.moodflix.movie.dto.tmdb.credits.CastDto;
+import com.duck.moodflix.movie.dto.tmdb.credits.CrewDto;
+import com.duck.moodflix.movie.mapper.MovieDetailAssembler;
+import com.duck.moodflix.movie.repository.CreditRepository;
+import com.duck.moodflix.movie.repository.MovieDetailsRepository;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import com.duck.moodflix.movie.repository.PersonRepository;
+import com.duck.moodflix.movie.util.CertificationExtractor;
+import com.duck.moodflix.movie.util.ImageUrlResolver;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TMDb 상세 응답을 DB 스냅샷(movie_details + credits/persons)으로 저장/조회.
+ * 상세 API는 신선한 스냅샷이 있으면 TMDb 없이 DB 한 번(PK 조회)으로 응답한다.
+ */
+@Service
+@Slf4j
+public class MovieSnapshotService {
+
+    /** DB에서 읽은 상세 스냅샷 묶음 */
+    public record StoredDetail(MovieDetails details, MovieDetailSnapshot snapshot, List<Credit> credits, boolean fresh) {}
+
+    private final MovieRepository movieRepository;
+    private final MovieDetailsRepository detailsRepository;
+    private final CreditRepository creditRepository;
+    private final PersonRepository personRepository;
+    private final MovieDetailAssembler assembler;
+    private final CertificationExtractor certExtractor;
+    private final ImageUrlResolver img;
+    private final ObjectMapper objectMapper;
+    private final Duration snapshotTtl;
+
+    public MovieSnapshotService(MovieRepository movieRepository,
+                                MovieDetailsRepository detailsRepository,
+                                CreditRepository creditRepository,
+                                PersonRepository personRepository,
+                                MovieDetailAssembler assembler,
+                                CertificationExtractor certExtractor,
+                                ImageUrlResolver img,
+                                ObjectMapper objectMapper,
+                                @Value("${moodflix.detail.snapshot-ttl-hours:168}") long snapshotTtlHours) {
+        this.movieRepository = movieRepository;
+        this.detailsRepository = detailsRepository;
+        this.creditRepository = creditRepository;
+        this.personRepository = personRepository;
+        this.assembler = assembler;
+        this.certExtractor = certExtractor;
+        this.img = img;
+        this.objectMapper = objectMapper;
+        this.snapshotTtl = Duration.ofHours(snapshotTtlHours);
+    }
+
+    /** 저장된 스냅샷 조회 (없으면 empty, 오래됐으면 fresh=false) */
+    @Transactional(readOnly = true)
+    public Optional<StoredDetail> find(Long movieId) {
+        return detailsRepository.findById(movieId)
+                .filter(det -> det.getSnapshotAt() != null)
+                .map(det -> new StoredDetail(
+                        det,
+                        readSnapshot(det.getSnapshotJson()),
+                        creditRepository.findWithPersonByMovieId(movieId),
+                        det.getSnapshotAt().isAfter(LocalDateTime.now().minus(snapshotTtl))));
+    }
+
+    /** 동기화 경로: 현재 트랜잭션(없으면 새로)에서 스냅샷 저장 */
+    @Transactional
+    public void write(Movie movie, TMDbMovieDetailDto d) {
+        if (movie == null || movie.getId() == null || d == null) return;
+        writeInternal(movie.getId(), d);
+    }
+
+    /** 조회 경로: 읽기 전용 트랜잭션 안에서도 별도 쓰기 트랜잭션으로 스냅샷 갱신 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refresh(Long movieId, TMDbMovieDetailDto d) {
+        if (movieId == null || d == null) return;
+        writeInternal(movieId, d);
+    }
+
+    private void writeInternal(Long movieId, TMDbMovieDetailDto d) {
+        Movie ref = movieRepository.getReferenceById(movieId);
+
+        // 1) movie_details 업서트
+        MovieDetails det = detailsRepository.findById(movieId)
+                .orElseGet(() -> MovieDetails.builder().movie(ref).build());
+
+        String countryCode = null, countryName = null;
+        if (d.getProductionCountries() != null && !d.getProductionCountries().isEmpty()
+                && d.getProductionCountries().get(0) != null) {
+            countryCode = d.getProductionCountries().get(0).iso31661();
+            countryName = d.getProductionCountries().get(0).name();
+        }
+
+        det.setOriginalTitle(truncate(d.getOriginalTitle(), 255));
+        det.setStatus(truncate(d.getStatus(), 32));
+        det.setRuntime(d.getRuntime());
+        det.setCountryCode(truncate(countryCode, 2));
+        det.setCountryName(truncate(countryName, 64));
+        det.setCertification(truncate(certExtractor.extract(d), 8));
+        det.setVoteCount(d.getVoteCount());
+        det.setPopularity(d.getPopularity());
+        det.setBudget(d.getBudget());
+        det.setRevenue(d.getRevenue());
+        det.setSnapshotJson(writeSnapshot(assembler.toSnapshot(d)));
+        det.setSnapshotAt(LocalDateTime.now());
+        detailsRepository.save(det);
+
+        // 2) 출연/핵심 크루 교체
+        creditRepository.deleteByMovieId(movieId);
+
+        List<CastDto> cast = MovieDetailAssembler.selectCast(d).stream()
+                .filter(c -> c.id() != null && c.name() != null).toList();
+        List<CrewDto> crew = MovieDetailAssembler.selectCrew(d).stream()
+                .filter(c -> c.id() != null && c.name() != null).toList();
+        if (cast.isEmpty() && crew.isEmpty()) return;
+
+        Map<Long, Person> persons = upsertPersons(cast, crew);
+
+        List<Credit> credits = new ArrayList<>(cast.size() + crew.size());
+        Set<String> seen = new HashSet<>(); // ux_credits_movie_person_role 중복 방지
+        for (CastDto c : cast) {
+            if (!seen.add(c.id() + "|Actor|" + c.character())) continue;
+            credits.add(Credit.builder()
+                    .movie(ref)
+                    .person(persons.get(c.id()))
+                    .department("Acting")
+                    .job("Actor")
+                    .characterName(truncate(c.character(), 255))
+                    .castOrder(c.order() == null ? 999 : c.order())
+                    .build());
+        }
+        for (CrewDto c : crew) {
+            if (!seen.add(c.id() + "|" + c.job() + "|null")) continue;
+            credits.add(Credit.builder()
+                    .movie(ref)
+                    .person(persons.get(c.id()))
+                    .department(c.department() == null ? "Crew" : c.department())
+                    .job(c.job())
+                    .build());
+        }
+        creditRepository.saveAll(credits);
+    }
+
+    private Map<Long, Person> upsertPersons(List<CastDto> cast, List<CrewDto> crew) {
+        Map<Long, String[]> incoming = new LinkedHashMap<>(); // tmdbId -> [name, profileUrl]
+        cast.forEach(c -> incoming.putIfAbsent(c.id(), new String[]{c.name(), profileUrl(c.profilePath())}));
+        crew.forEach(c -> incoming.putIfAbsent(c.id(), new String[]{c.name(), profileUrl(c.profilePath())}));
+
+        Map<Long, Person> found = personRepository.findByTmdbIdIn(incoming.keySet()).stream()
+                .collect(Collectors.toMap(Person::getTmdbId, Function.identity(), (a, b) -> a));
+
+        List<Person> created = new ArrayList<>();
+        incoming.forEach((tmdbId, v) -> {
+            Person p = found.get(tmdbId);
+            if (p == null) {
+                p = Person.builder().tmdbId(tmdbId).name(v[0]).profileUrl(v[1]).build();
+                created.add(p);
+                found.put(tmdbId, p);
+            } else {
+                p.refresh(v[0], v[1]);
+            }
+        });
+        if (!created.isEmpty()) personRepository.saveAll(created);
+        return found;
+    }
+
+    private String profileUrl(String path) {
+        return (path == null || path.isBlank()) ? null : img.w185(path);
+    }
+
+    private String writeSnapshot(MovieDetailSnapshot snap) {
+        try {
+            return objectMapper.writeValueAsString(snap);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("snapshot serialize failed", e);
+        }
+    }
+
+    private MovieDetailSnapshot readSnapshot(String json) {
+        if (json == null || json.isBlank()) return null;
+        try {
+            return objectMapper.readValue(json, MovieDetailSnapshot.class);
+        } catch (JsonProcessingException e) {
+            log.warn("broken snapshot json ignored: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String truncate(String s, int max) {
+        return (s == null || s.length() <= max) ? s : s.substring(0, max);
+    }
+}
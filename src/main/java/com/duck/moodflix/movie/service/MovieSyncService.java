@@ -1,39 +1,136 @@
 package com.duck.moodflix.movie.service;
 
 import com.duck.moodflix.movie.client.TMDbClient;
+import com.duck.moodflix.movie.client.TMDbDetailCache;
 import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.domain.entity.SyncCheckpoint;
 import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
 import com.duck.moodflix.movie.dto.tmdb.TMDbMovieListResponse;
+import com.duck.moodflix.movie.dto.tmdb.changes.ChangedMovieDto;
+import com.duck.moodflix.movie.dto.tmdb.changes.ChangesPageDto;
 import com.duck.moodflix.movie.dto.tmdb.related.MovieBriefDto;
 import com.duck.moodflix.movie.mapper.MovieMapper;
 import com.duck.moodflix.movie.repository.MovieRepository;
+import com.duck.moodflix.movie.repository.SyncChangeRetryRepository;
+import com.duck.moodflix.movie.repository.SyncCheckpointRepository;
+import com.duck.moodflix.movie.service.SyncStats.SkipReason;
 import com.duck.moodflix.movie.util.AgeRatingDecider;
 import com.duck.moodflix.movie.util.CertificationExtractor;
-import lombok.RequiredArgsConstructor;
+import com.duck.moodflix.movie.util.LongHashSet;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MovieSyncService {
 
+    /** 변경 피드 체크포인트 이름 */
+    private static final String CHANGES_CHECKPOINT = "tmdb-changes";
+    /** TMDb /movie/changes 가 허용하는 최대 조회 기간(일) */
+    private static final int CHANGES_MAX_WINDOW_DAYS = 14;
+    /** 오류로 남은 변경분을 실행마다 다시 시도하는 최대 건수 / 포기하기까지의 실패 횟수 */
+    private static final int CHANGES_RETRY_BATCH = 500;
+    private static final int CHANGES_MAX_RETRY_ATTEMPTS = 5;
+    /** 기존 tmdbId 적재 시 한 번에 읽는 행 수 */
+    private static final int KNOWN_ID_BATCH = 10_000;
+
     private final MovieRepository movieRepository;
+    private final SyncCheckpointRepository checkpointRepository;
+    private final SyncChangeRetryRepository retryRepository;
     private final TMDbClient tmdb;
+    private final TMDbDetailCache detailCache;
     private final MovieMapper movieMapper;
     private final KeywordManager keywordManager;
     private final ReviewSyncService reviewSyncService;
     private final CertificationExtractor certExtractor;
-    private final MovieIndexService movieIndexService; // ES 색인 서비스
+    private final SyncPageWriter pageWriter;            // 페이지 단위 일괄 쓰기
+    private final ExecutorService fetchPool;           // 영화별 TMDb 조회 fan-out
+    private final TransactionTemplate tx;              // 증분 갱신: 영화 1건 = 1 트랜잭션
+
+    public MovieSyncService(MovieRepository movieRepository,
+                            SyncCheckpointRepository checkpointRepository,
+                            SyncChangeRetryRepository retryRepository,
+                            TMDbClient tmdb,
+                            TMDbDetailCache detailCache,
+                            MovieMapper movieMapper,
+                            KeywordManager keywordManager,
+                            ReviewSyncService reviewSyncService,
+                            CertificationExtractor certExtractor,
+                            SyncPageWriter pageWriter,
+                            @Qualifier("movieSyncExecutor") ExecutorService fetchPool,
+                            TransactionTemplate tx) {
+        this.movieRepository = movieRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.retryRepository = retryRepository;
+        this.tmdb = tmdb;
+        this.detailCache = detailCache;
+        this.movieMapper = movieMapper;
+        this.keywordManager = keywordManager;
+        this.reviewSyncService = reviewSyncService;
+        this.certExtractor = certExtractor;
+        this.pageWriter = pageWriter;
+        this.fetchPool = fetchPool;
+        this.tx = tx;
+    }
+
+    /**
+     * 필터를 통과한 TMDb 조회 결과(저장 대기) 또는 스킵 사유.
+     * 워커 스레드는 TMDb 조회/필터만 수행하고, DB 저장은 호출 스레드에서 순서대로 처리한다.
+     */
+    private record Candidate(Long tmdbId,
+                             SkipReason skip,
+                             TMDbMovieDetailDto detail,
+                             String enOverview,
+                             ReviewSyncService.FetchedReviews reviews) {
+        static Candidate skipped(Long tmdbId, SkipReason reason) {
+            return new Candidate(tmdbId, reason, null, null, null);
+        }
+
+        SyncPageWriter.PendingMovie toPending() {
+            return new SyncPageWriter.PendingMovie(detail, enOverview, reviews);
+        }
+    }
+
+    /**
+     * 페이지 단위 진행 콜백. 페이지 처리 직후 통계와 다음 체크포인트(nextYear/nextPage)를 전달.
+     * false 를 반환하면 다음 페이지로 넘어가지 않고 중단(취소).
+     */
+    @FunctionalInterface
+    public interface PageListener {
+        PageListener NONE = (stats, nextYear, nextPage) -> true;
+
+        boolean onPage(SyncStats stats, Integer nextYear, int nextPage);
+    }
 
     /** 인기 영화 모든 페이지 동기화(한글 제목 지원 + 성인/등급/예산/흥행/개요 필터) */
     public int syncAllPopular() {
-        int page = 1;
+        return syncAllPopular(1, PageListener.NONE);
+    }
+
+    /** startPage 부터 재개, 페이지마다 listener 로 진행 상황 보고 */
+    public int syncAllPopular(int startPage, PageListener listener) {
+        int page = Math.max(1, startPage);
         int savedTotal = 0;
+        LongHashSet known = loadKnownTmdbIds();
 
         while (true) {
             TMDbMovieListResponse resp = tmdb.getPopular(page);
@@ -44,95 +141,18 @@ public class MovieSyncService {
                 break;
             }
 
-            int savedPage = 0, skipExist = 0, skipAdult = 0, skipNoKo = 0,
-                    skipNoOverview = 0, skipMetaMissing = 0, skipError = 0;
-
-            // 이번 페이지에서 DB에 저장된 영화들을 모아두기 → 벌크 색인
-            List<Movie> savedThisPage = new ArrayList<>();
-
-            for (MovieBriefDto brief : briefs) {
-                Long tmdbId = brief.id();
-                if (tmdbId == null) { skipError++; continue; }
-
-                try {
-                    // 1) 중복 스킵
-                    if (movieRepository.existsByTmdbId(tmdbId)) { skipExist++; continue; }
-
-                    // 2) 상세 조회(ko-KR)
-                    TMDbMovieDetailDto d = tmdb.getMovieDetail(tmdbId);
-                    if (d == null) { skipError++; continue; }
-
-                    // 3) 성인물 필터 (TMDb 성인 플래그 + 등급 기반)
-                    boolean adult = Boolean.TRUE.equals(d.getAdult());
-                    String cert = null;
-                    if (!adult) {
-                        cert = certExtractor.extract(d);
-                        if (AgeRatingDecider.isAdultCert(cert)) adult = true;
-                    }
-                    if (adult) { skipAdult++; continue; }
-
-                    // 4) 한글 번역 여부 필터
-                    if (!tmdb.hasKoreanTranslation(tmdbId)) { skipNoKo++; continue; }
-
-                    // 5) overview (ko → en 폴백) 필수
-                    String ko = d.getOverview();
-                    String en = null;
-                    if (ko == null || ko.isBlank()) {
-                        var enD = tmdb.getMovieDetail(tmdbId, "en-US");
-                        if (enD != null && enD.getOverview() != null && !enD.getOverview().isBlank()) {
-                            en = enD.getOverview();
-                        }
-                    }
-                    if ((ko == null || ko.isBlank()) && (en == null || en.isBlank())) {
-                        skipNoOverview++; continue;
-                    }
-
-                    // 6) 메타데이터(등급/예산/흥행) 필수
-                    boolean missing =
-                            (cert == null || cert.isBlank()) ||
-                                    (d.getBudget() == null || d.getBudget() == 0) ||
-                                    (d.getRevenue() == null || d.getRevenue() == 0);
-                    if (missing) { skipMetaMissing++; continue; }
-
-                    // 7) 저장
-                    Movie movie = movieMapper.toEntity(d, en);
-                    movieRepository.save(movie);
-
-                    // 8) 키워드/리뷰 후처리
-                    var keywordNames = (d.getKeywords()==null || d.getKeywords().keywords()==null)
-                            ? List.<String>of()
-                            : d.getKeywords().keywords().stream()
-                            .map(k -> k.name()).filter(Objects::nonNull)
-                            .map(String::trim).filter(s -> !s.isEmpty())
-                            .distinct().toList();
-                    keywordManager.upsert(movie, keywordNames);
-                    reviewSyncService.syncForMovie(movie);
-
-                    savedThisPage.add(movie);
-                    savedPage++;
-
-                } catch (Exception e) {
-                    skipError++;
-                    log.warn("Skip by exception. tmdbId={}, msg={}", tmdbId, e.getMessage());
-                }
-            }
-
-            // 9) 페이지 끝에서 ES 벌크 색인
-            if (!savedThisPage.isEmpty()) {
-                try {
-                    movieIndexService.indexMovies(savedThisPage);
-                    log.info("indexed to ES: page={}, count={}", page, savedThisPage.size());
-                } catch (Exception ex) {
-                    log.error("ES indexing failed. page={}, err={}", page, ex.toString());
-                }
-            }
+            // 저장된 영화는 스냅샷 저장 뒤 색인 outbox 에 적재됨 → ES 색인은 백그라운드 워커가 처리
+            SyncStats stats = syncPage(briefs, known);
 
-            log.info("popular page={} result: saved={}, exist={}, adult={}, noKo={}, noOverview={}, metaMissing={}, error={}",
-                    page, savedPage, skipExist, skipAdult, skipNoKo, skipNoOverview, skipMetaMissing, skipError);
-            savedTotal += savedPage;
+            log.info("popular page={} result: {}", page, stats.summary());
+            savedTotal += stats.getSaved();
 
             Integer totalPages = resp.getTotalPages();
             int last = (totalPages == null || totalPages <= 0) ? 500 : Math.min(totalPages, 500);
+            if (!listener.onPage(stats, null, page + 1)) {
+                log.info("popular sync stopped by request after page={}", page);
+                break;
+            }
             if (page >= last) {
                 log.info("Reached last page={} (tmdb total_pages={}, cap=500)", page, totalPages);
                 break;
@@ -146,12 +166,19 @@ public class MovieSyncService {
 
     /** 연도 범위로 Discover 동기화(+필터) */
     public int syncDiscoverByYearRange(int fromYear, int toYear) {
+        return syncDiscoverByYearRange(fromYear, toYear, null, 1, PageListener.NONE);
+    }
+
+    /** (resumeYear, resumePage) 부터 재개, 페이지마다 listener 로 진행 상황 보고 */
+    public int syncDiscoverByYearRange(int fromYear, int toYear, Integer resumeYear, int resumePage, PageListener listener) {
         int savedTotal = 0;
         int start = Math.min(fromYear, toYear);
         int end   = Math.max(fromYear, toYear);
+        LongHashSet known = loadKnownTmdbIds();
 
-        for (int year = start; year <= end; year++) {
-            int page = 1;
+        int firstYear = (resumeYear == null) ? start : Math.max(start, resumeYear);
+        for (int year = firstYear; year <= end; year++) {
+            int page = (year == firstYear && resumeYear != null) ? Math.max(1, resumePage) : 1;
             while (true) {
                 var resp = tmdb.discoverByYear(year, page); // 성인 제외
                 var briefs = (resp == null || resp.getResults() == null) ? List.<MovieBriefDto>of() : resp.getResults();
@@ -160,87 +187,333 @@ public class MovieSyncService {
                     break;
                 }
 
-                int savedPage = 0, skipExist=0, skipAdult=0, skipNoKo=0, skipNoOverview=0, skipMetaMissing=0, skipErr=0;
+                // 저장된 영화는 색인 outbox 로 (ES 상태와 무관하게 진행)
+                SyncStats stats = syncPage(briefs, known);
+
+                log.info("discover year={} page={} result: {}", year, page, stats.summary());
+                savedTotal += stats.getSaved();
+
+                Integer totalPages = resp.getTotalPages();
+                int last = (totalPages == null || totalPages <= 0) ? 500 : Math.min(totalPages, 500);
+                boolean yearDone = page >= last;
+                if (!listener.onPage(stats, yearDone ? year + 1 : year, yearDone ? 1 : page + 1)) {
+                    log.info("discover sync stopped by request after year={} page={}, saved={}", year, page, savedTotal);
+                    return savedTotal;
+                }
+                if (yearDone) break;
+                page++;
+            }
+        }
+        log.info("discover sync completed. years {}~{}, saved={}", start, end, savedTotal);
+        return savedTotal;
+    }
+
+    /**
+     * 증분 동기화: 체크포인트 이후 TMDb 변경 피드(/movie/changes)에 올라온 id 중
+     * 카탈로그에 있는 영화만 다시 조회해 Movie/키워드/리뷰/스냅샷을 제자리 갱신하고, 바뀐 영화만 색인 outbox 에 적재.
+     * 비용은 카탈로그 크기가 아니라 변경량에 비례. 체크포인트는 기간(window) 단위로 전진.
+     * 오류(TMDb 타임아웃/429 등)로 갱신하지 못한 영화는 sync_change_retries 에 남긴 뒤에만 전진하고, 다음 실행이 먼저 다시 시도.
+     */
+    public int syncChanges() {
+        return syncChanges(PageListener.NONE);
+    }
 
-                // 이번 페이지에서 저장된 영화 모아서 색인
-                List<Movie> savedThisPage = new ArrayList<>();
+    /** 페이지마다 listener 로 진행 상황 보고, false 면 현재 기간의 체크포인트를 남기지 않고 중단 */
+    public int syncChanges(PageListener listener) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC); // TMDb 변경 피드는 UTC 날짜 기준
+        SyncCheckpoint cp = checkpointRepository.findById(CHANGES_CHECKPOINT)
+                .orElseGet(() -> SyncCheckpoint.builder().name(CHANGES_CHECKPOINT).build());
 
-                for (var brief : briefs) {
-                    Long tmdbId = brief.id();
-                    if (tmdbId == null) { skipErr++; continue; }
+        // 체크포인트가 없으면 어제부터, 마지막 날짜는 하루 중 계속 바뀌므로 다시 훑음(갱신은 멱등)
+        LocalDate start = (cp.getSyncedUntil() == null) ? today.minusDays(1) : cp.getSyncedUntil();
+        if (start.isAfter(today)) start = today;
 
-                    try {
-                        if (movieRepository.existsByTmdbId(tmdbId)) { skipExist++; continue; }
+        SyncStats retried = retryFailedChanges();
+        int updatedTotal = retried.getSaved();
+        if (retried.total() > 0 && !listener.onPage(retried, null, 1)) return updatedTotal;
+
+        while (true) {
+            LocalDate end = start.plusDays(CHANGES_MAX_WINDOW_DAYS - 1);
+            if (end.isAfter(today)) end = today;
 
-                        TMDbMovieDetailDto d = tmdb.getMovieDetail(tmdbId); // ko-KR
-                        if (d == null) { skipErr++; continue; }
+            SyncStats windowStats = new SyncStats();
+            Set<Long> failed = new LinkedHashSet<>();
+            int page = 1;
+            while (true) {
+                ChangesPageDto resp = tmdb.getMovieChanges(start, end, page);
+                List<Long> ids = (resp == null || resp.results() == null) ? List.of()
+                        : resp.results().stream()
+                        .map(ChangedMovieDto::id).filter(Objects::nonNull).distinct().toList();
+                if (ids.isEmpty()) break;
+
+                // 바뀐 영화만 색인 outbox 에 적재됨
+                SyncStats stats = refreshPage(ids, failed);
+                log.info("changes {}~{} page={} result: {}", start, end, page, stats.summary());
+                windowStats.add(stats);
+
+                if (!listener.onPage(stats, null, page + 1)) {
+                    log.info("changes sync stopped at {}~{} page={}, checkpoint kept at {}",
+                            start, end, page, cp.getSyncedUntil());
+                    return updatedTotal + windowStats.getSaved();
+                }
+                Integer totalPages = resp.totalPages();
+                if (totalPages == null || page >= totalPages) break;
+                page++;
+            }
 
-                        boolean adult = Boolean.TRUE.equals(d.getAdult());
-                        String cert = null;
-                        if (!adult) {
-                            cert = certExtractor.extract(d);
-                            if (AgeRatingDecider.isAdultCert(cert)) adult = true;
-                        }
-                        if (adult) { skipAdult++; continue; }
+            // 실패한 영화를 재시도 목록에 남기는 것과 체크포인트 전진을 한 트랜잭션으로
+            LocalDate until = end;
+            tx.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (Long tmdbId : failed) retryRepository.record(tmdbId, now);
+                cp.setSyncedUntil(until);
+                checkpointRepository.save(cp);
+            });
+            updatedTotal += windowStats.getSaved();
+            log.info("changes window {}~{} done: {}{}", start, end, windowStats.summary(),
+                    failed.isEmpty() ? "" : ", queued for retry=" + failed.size());
+
+            if (!end.isBefore(today)) break;
+            start = end.plusDays(1);
+        }
 
-                        if (!tmdb.hasKoreanTranslation(tmdbId)) { skipNoKo++; continue; }
+        log.info("changes sync completed. checkpoint={}, updated={}", cp.getSyncedUntil(), updatedTotal);
+        return updatedTotal;
+    }
 
-                        String ko = d.getOverview();
-                        String en = null;
-                        if (ko == null || ko.isBlank()) {
-                            var dEn = tmdb.getMovieDetail(tmdbId, "en-US");
-                            if (dEn != null && dEn.getOverview()!=null && !dEn.getOverview().isBlank()) en = dEn.getOverview();
-                        }
-                        if ((ko == null || ko.isBlank()) && (en == null || en.isBlank())) { skipNoOverview++; continue; }
+    /** 이전 실행에서 오류로 남은 영화 재시도. 성공(또는 카탈로그에서 빠진) 영화는 목록에서 지우고 실패 횟수 초과분은 포기 */
+    private SyncStats retryFailedChanges() {
+        List<Long> ids = retryRepository.findOldestIds(PageRequest.of(0, CHANGES_RETRY_BATCH));
+        if (ids.isEmpty()) return new SyncStats();
+
+        Set<Long> failed = new HashSet<>();
+        SyncStats stats = refreshPage(ids, failed);
+        List<Long> done = ids.stream().filter(id -> !failed.contains(id)).toList();
+        tx.executeWithoutResult(status -> {
+            if (!done.isEmpty()) retryRepository.deleteAllByIdInBatch(done);
+            if (!failed.isEmpty()) retryRepository.markFailedAgain(List.copyOf(failed), LocalDateTime.now());
+            int dropped = retryRepository.deleteExhausted(CHANGES_MAX_RETRY_ATTEMPTS);
+            if (dropped > 0) log.warn("changes retry: gave up on {} movies after {} attempts", dropped, CHANGES_MAX_RETRY_ATTEMPTS);
+        });
+        log.info("changes retry of {} movies: {}", ids.size(), stats.summary());
+        return stats;
+    }
 
-                        boolean missing = (cert == null || cert.isBlank())
-                                || (d.getBudget()==null || d.getBudget()==0)
-                                || (d.getRevenue()==null || d.getRevenue()==0);
-                        if (missing) { skipMetaMissing++; continue; }
+    /**
+     * 변경 피드 한 페이지 처리. 오류로 갱신하지 못한 tmdbId 는 failed 에 추가.
+     * 1) 카탈로그에 있는 영화만 IN 조회 → 2) 재조회는 워커 풀로 fan-out → 3) 호출 스레드에서 순서대로 갱신
+     */
+    private SyncStats refreshPage(List<Long> tmdbIds, Set<Long> failed) {
+        SyncStats stats = new SyncStats();
+        Map<Long, Movie> tracked = movieRepository.findByTmdbIdIn(tmdbIds).stream()
+                .collect(Collectors.toMap(Movie::getTmdbId, Function.identity(), (a, b) -> a));
+
+        List<Long> submitted = new ArrayList<>(tracked.size());
+        List<Future<Candidate>> pending = new ArrayList<>(tracked.size());
+        for (Long tmdbId : tmdbIds) {
+            if (!tracked.containsKey(tmdbId)) { stats.skip(SkipReason.NOT_TRACKED); continue; }
+            submitted.add(tmdbId);
+            pending.add(fetchPool.submit(() -> fetchRefresh(tmdbId)));
+        }
 
-                        Movie movie = movieMapper.toEntity(d, en);
-                        movieRepository.save(movie);
+        for (int i = 0; i < pending.size(); i++) {
+            Long tmdbId = submitted.get(i);
+            Candidate c = await(pending.get(i), pending);
+            if (c.skip() != null) {
+                stats.skip(c.skip());
+                if (c.skip() == SkipReason.ERROR) failed.add(tmdbId);
+                continue;
+            }
 
-                        var keywordNames = (d.getKeywords()==null || d.getKeywords().keywords()==null)
-                                ? List.<String>of()
-                                : d.getKeywords().keywords().stream()
-                                .map(k -> k.name()).filter(Objects::nonNull)
-                                .map(String::trim).filter(s -> !s.isEmpty())
-                                .distinct().toList();
-                        keywordManager.upsert(movie, keywordNames);
+            try {
+                update(tracked.get(tmdbId), c);
+                stats.saved();
+            } catch (Exception e) {
+                stats.skip(SkipReason.ERROR);
+                failed.add(tmdbId);
+                log.warn("Refresh failed. tmdbId={}, msg={}", tmdbId, e.getMessage());
+            }
+        }
+        return stats;
+    }
 
-                        reviewSyncService.syncForMovie(movie);
+    /**
+     * 잡 시작 시 DB의 tmdbId 를 메모리 셋으로 한 번 적재 (keyset 페이징).
+     * 이후 중복 확인은 DB 왕복 없이 셋에서 처리하고, 저장할 때마다 셋에 추가한다.
+     */
+    private LongHashSet loadKnownTmdbIds() {
+        LongHashSet known = new LongHashSet((int) Math.min(Integer.MAX_VALUE / 2, movieRepository.count()));
+        long after = Long.MIN_VALUE;
+        while (true) {
+            List<Long> ids = movieRepository.findTmdbIdsAfter(after, PageRequest.of(0, KNOWN_ID_BATCH));
+            for (Long id : ids) known.add(id);
+            if (ids.size() < KNOWN_ID_BATCH) break;
+            after = ids.get(ids.size() - 1);
+        }
+        log.info("known tmdbIds loaded: {}", known.size());
+        return known;
+    }
 
-                        savedThisPage.add(movie);
-                        savedPage++;
+    /**
+     * 한 페이지 처리.
+     * 1) 중복 스킵(메모리 셋) → 2) 나머지 영화의 TMDb 조회/필터를 워커 풀로 fan-out
+     * 3) 결과를 원래 순서대로 모아 호출 스레드에서 저장 → 스킵 카운터/셋 갱신은 단일 스레드에서만
+     */
+    private SyncStats syncPage(List<MovieBriefDto> briefs, LongHashSet known) {
+        SyncStats stats = new SyncStats();
+        List<Future<Candidate>> pending = new ArrayList<>(briefs.size());
+        Set<Long> inPage = new HashSet<>(); // 같은 페이지 안의 중복 id
+
+        for (MovieBriefDto brief : briefs) {
+            Long tmdbId = brief.id();
+            if (tmdbId == null) { stats.skip(SkipReason.ERROR); continue; }
+
+            // 1) 중복 스킵
+            if (known.contains(tmdbId) || !inPage.add(tmdbId)) { stats.skip(SkipReason.EXIST); continue; }
+            pending.add(fetchPool.submit(() -> fetchCandidate(tmdbId)));
+        }
 
-                    } catch (Exception e) {
-                        skipErr++;
-                        log.warn("discover sync skip by exception. tmdbId={}, msg={}", tmdbId, e.getMessage());
-                    }
+        List<Candidate> accepted = new ArrayList<>(pending.size());
+        for (Future<Candidate> f : pending) {
+            Candidate c = await(f, pending);
+            if (c.skip() != null) { stats.skip(c.skip()); continue; }
+            accepted.add(c);
+        }
+        if (accepted.isEmpty()) return stats;
+
+        // 4) 페이지 전체를 한 트랜잭션으로 일괄 저장, 실패 시 영화 단위로 재시도해 문제 영화만 스킵
+        try {
+            onSaved(accepted, pageWriter.write(accepted.stream().map(Candidate::toPending).toList()), known, stats);
+        } catch (Exception pageError) {
+            log.warn("page write failed, retry one by one. msg={}", pageError.getMessage());
+            for (Candidate c : accepted) {
+                try {
+                    onSaved(List.of(c), pageWriter.write(List.of(c.toPending())), known, stats);
+                } catch (Exception e) {
+                    stats.skip(SkipReason.ERROR);
+                    log.warn("Skip by exception. tmdbId={}, msg={}", c.tmdbId(), e.getMessage());
                 }
+            }
+        }
+        return stats;
+    }
+
+    /** (커밋 이후) 상세 스냅샷 저장 + 카운터/중복 셋 갱신 + 방금 받은 ko-KR 상세로 상세 페이지 캐시 예열 */
+    private void onSaved(List<Candidate> written, List<Movie> movies, LongHashSet known, SyncStats stats) {
+        pageWriter.writeSnapshots(movies, written.stream().map(Candidate::detail).toList());
+        for (int i = 0; i < movies.size(); i++) {
+            Movie movie = movies.get(i);
+            known.add(movie.getTmdbId());
+            stats.saved();
+            detailCache.put(movie.getTmdbId(), "ko-KR", written.get(i).detail());
+        }
+    }
 
-                // 페이지 끝에서 ES 벌크 색인
-                if (!savedThisPage.isEmpty()) {
-                    try {
-                        movieIndexService.indexMovies(savedThisPage);
-                        log.info("indexed to ES (discover): year={}, page={}, count={}", year, page, savedThisPage.size());
-                    } catch (Exception ex) {
-                        log.error("ES indexing failed (discover). year={}, page={}, err={}", year, page, ex.toString());
-                    }
+    /** 워커 결과 대기. 인터럽트 시 남은 작업 취소, 작업 예외는 ERROR 스킵으로 변환 */
+    private Candidate await(Future<Candidate> f, List<Future<Candidate>> pending) {
+        try {
+            return f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(p -> p.cancel(true));
+            throw new IllegalStateException("sync interrupted", e);
+        } catch (ExecutionException e) {
+            log.warn("Skip by exception. msg={}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            return Candidate.skipped(null, SkipReason.ERROR);
+        }
+    }
+
+    /**
+     * (워커 스레드) TMDb 조회 + 성인/번역/개요/메타데이터 필터. DB에는 접근하지 않음.
+     * 호출 속도는 TMDbClient 전역 rate limiter 가 제어한다.
+     */
+    private Candidate fetchCandidate(Long tmdbId) {
+        try {
+            // 2) 상세 조회(ko-KR)
+            TMDbMovieDetailDto d = tmdb.getMovieDetail(tmdbId);
+            if (d == null) return Candidate.skipped(tmdbId, SkipReason.ERROR);
+
+            // 3) 성인물 필터 (TMDb 성인 플래그 + 등급 기반)
+            boolean adult = Boolean.TRUE.equals(d.getAdult());
+            String cert = null;
+            if (!adult) {
+                cert = certExtractor.extract(d);
+                if (AgeRatingDecider.isAdultCert(cert)) adult = true;
+            }
+            if (adult) return Candidate.skipped(tmdbId, SkipReason.ADULT);
+
+            // 4) 한글 번역 여부 필터
+            if (!tmdb.hasKoreanTranslation(tmdbId)) return Candidate.skipped(tmdbId, SkipReason.NO_KO);
+
+            // 5) overview (ko → en 폴백) 필수
+            String ko = d.getOverview();
+            String en = null;
+            if (ko == null || ko.isBlank()) {
+                var enD = tmdb.getMovieDetail(tmdbId, "en-US");
+                if (enD != null && enD.getOverview() != null && !enD.getOverview().isBlank()) {
+                    en = enD.getOverview();
                 }
+            }
+            if ((ko == null || ko.isBlank()) && (en == null || en.isBlank())) {
+                return Candidate.skipped(tmdbId, SkipReason.NO_OVERVIEW);
+            }
 
-                log.info("discover year={} page={} result: saved={}, exist={}, adult={}, noKo={}, noOverview={}, metaMissing={}, error={}",
-                        year, page, savedPage, skipExist, skipAdult, skipNoKo, skipNoOverview, skipMetaMissing, skipErr);
-                savedTotal += savedPage;
+            // 6) 메타데이터(등급/예산/흥행) 필수
+            boolean missing =
+                    (cert == null || cert.isBlank()) ||
+                            (d.getBudget() == null || d.getBudget() == 0) ||
+                            (d.getRevenue() == null || d.getRevenue() == 0);
+            if (missing) return Candidate.skipped(tmdbId, SkipReason.META_MISSING);
 
-                Integer totalPages = resp.getTotalPages();
-                int last = (totalPages == null || totalPages <= 0) ? 500 : Math.min(totalPages, 500);
-                if (page >= last) break;
-                page++;
+            // 7) 리뷰(ko/en) 선조회
+            var reviews = reviewSyncService.fetch(tmdbId);
+
+            return new Candidate(tmdbId, null, d, en, reviews);
+        } catch (Exception e) {
+            log.warn("Skip by exception. tmdbId={}, msg={}", tmdbId, e.getMessage());
+            return Candidate.skipped(tmdbId, SkipReason.ERROR);
+        }
+    }
+
+    /**
+     * (워커 스레드) 증분 갱신용 재조회. 이미 카탈로그에 있는 영화이므로 신규 수집 필터는 적용하지 않음
+     * (성인 여부는 매퍼가 다시 판정). TMDb 캐시를 거치지 않고 항상 최신 응답을 받는다.
+     */
+    private Candidate fetchRefresh(Long tmdbId) {
+        try {
+            TMDbMovieDetailDto d = tmdb.getMovieDetail(tmdbId);
+            if (d == null) return Candidate.skipped(tmdbId, SkipReason.ERROR);
+
+            String en = null;
+            if (d.getOverview() == null || d.getOverview().isBlank()) {
+                var enD = tmdb.getMovieDetail(tmdbId, "en-US");
+                if (enD != null && enD.getOverview() != null && !enD.getOverview().isBlank()) {
+                    en = enD.getOverview();
+                }
             }
+            return new Candidate(tmdbId, null, d, en, reviewSyncService.fetch(tmdbId));
+        } catch (Exception e) {
+            log.warn("Refresh fetch failed. tmdbId={}, msg={}", tmdbId, e.getMessage());
+            return Candidate.skipped(tmdbId, SkipReason.ERROR);
         }
-        log.info("discover sync completed. years {}~{}, saved={}", start, end, savedTotal);
-        return savedTotal;
+    }
+
+    /**
+     * (호출 스레드) 기존 영화 제자리 갱신. 영화/키워드 링크/리뷰는 한 트랜잭션,
+     * 상세 스냅샷은 커밋 뒤 별도 트랜잭션 (실패해도 갱신 유지) + 색인 outbox 적재, 이후 상세 캐시 교체
+     */
+    private void update(Movie movie, Candidate c) {
+        TMDbMovieDetailDto d = c.detail();
+        tx.executeWithoutResult(status -> {
+            movieMapper.updateEntity(movie, d, c.enOverview());
+            movieRepository.save(movie);
+            keywordManager.replace(movie, SyncPageWriter.keywordNames(d));
+            reviewSyncService.save(movie, c.reviews());
+        });
+        pageWriter.writeSnapshots(List.of(movie), List.of(d));
+
+        // 다른 언어 캐시까지 비우고 방금 받은 ko-KR 로 다시 예열
+        detailCache.invalidate(movie.getTmdbId());
+        detailCache.put(movie.getTmdbId(), "ko-KR", d);
     }
 }
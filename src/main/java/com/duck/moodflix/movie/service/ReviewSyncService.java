@@ -2,17 +2,20 @@ package com.duck.moodflix.movie.service;
 
 import com.duck.moodflix.movie.client.TMDbClient;
 import com.duck.moodflix.movie.domain.entity.Movie;
-import com.duck.moodflix.movie.domain.entity.TmdbReview;
 import com.duck.moodflix.movie.dto.tmdb.reviews.ReviewDto;
 import com.duck.moodflix.movie.dto.tmdb.reviews.ReviewsPageDto;
-import com.duck.moodflix.movie.repository.TmdbReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.OffsetDateTime;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,46 +23,82 @@ import java.util.Objects;
 public class ReviewSyncService {
 
     private final TMDbClient tmdb;
-    private final TmdbReviewRepository reviewRepo;
     private final TransactionTemplate tx;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 다중 행 업서트 한 문장의 최대 행 수 (리뷰 본문이 커서 작게 유지) */
+    private static final int UPSERT_CHUNK = 100;
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO tmdb_reviews (id, author, content, rating, url, created_at_tmdb, movie_id) VALUES ";
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE"
+            + " author = VALUES(author), content = VALUES(content), rating = VALUES(rating),"
+            + " url = VALUES(url), created_at_tmdb = VALUES(created_at_tmdb), movie_id = VALUES(movie_id)";
+
+    /** TMDb에서 받아온 ko-KR/en-US 리뷰 1페이지 (DB 반영 전) */
+    public record FetchedReviews(ReviewsPageDto ko, ReviewsPageDto en) {}
 
     public int syncForMovie(Movie movie) {
-        ReviewsPageDto ko = tmdb.getReviews(movie.getTmdbId(), "ko-KR", 1);
-        ReviewsPageDto en = tmdb.getReviews(movie.getTmdbId(), "en-US", 1);
-        int upserted = tx.execute(status -> upsertAll(movie, ko) + upsertAll(movie, en));
-        log.info("Synced TMDb reviews for movieId={}, upserted={}", movie.getId(), upserted);
-        return upserted;
+        return save(movie, fetch(movie.getTmdbId()));
+    }
+
+    /** TMDb 조회만 수행 (DB 미접근) → 동기화 워커 스레드에서 병렬 호출 가능 */
+    public FetchedReviews fetch(Long tmdbId) {
+        ReviewsPageDto ko = tmdb.getReviews(tmdbId, "ko-KR", 1);
+        ReviewsPageDto en = tmdb.getReviews(tmdbId, "en-US", 1);
+        return new FetchedReviews(ko, en);
     }
 
-    private int upsertAll(Movie movie, ReviewsPageDto page) {
-        if (page == null || page.results() == null || page.results().isEmpty()) return 0;
-        int cnt = 0;
-        for (ReviewDto r : page.results()) cnt += upsert(movie, r);
-        return cnt;
+    /** 미리 조회한 리뷰를 한 트랜잭션으로 업서트 */
+    public int save(Movie movie, FetchedReviews fetched) {
+        if (fetched == null) return 0;
+        int upserted = saveAll(Map.of(movie.getId(), fetched));
+        log.info("Synced TMDb reviews for movieId={}, upserted={}", movie.getId(), upserted);
+        return upserted;
     }
 
-    private int upsert(Movie movie, ReviewDto r) {
-        if (r == null || r.id() == null) return 0;
+    /**
+     * 여러 영화의 리뷰를 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 로 일괄 업서트.
+     * 반환값은 MySQL affected rows (신규 1, 변경 2, 동일 0) 합계.
+     */
+    public int saveAll(Map<Long, FetchedReviews> byMovieId) {
+        List<Object[]> rows = new ArrayList<>();
+        byMovieId.forEach((movieId, fetched) -> {
+            if (fetched == null) return;
+            collect(rows, movieId, fetched.ko());
+            collect(rows, movieId, fetched.en());
+        });
+        if (rows.isEmpty()) return 0;
 
-        TmdbReview entity = reviewRepo.findById(r.id()).orElse(null);
-        Double rating = (r.authorDetails() == null) ? null : r.authorDetails().rating();
-        OffsetDateTime created = safeOffset(r.createdAt());
+        Integer affected = tx.execute(status -> {
+            int sum = 0;
+            for (int from = 0; from < rows.size(); from += UPSERT_CHUNK) {
+                List<Object[]> chunk = rows.subList(from, Math.min(from + UPSERT_CHUNK, rows.size()));
+                StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+                List<Object> args = new ArrayList<>(chunk.size() * 7);
+                for (int i = 0; i < chunk.size(); i++) {
+                    sql.append(i == 0 ? "(?,?,?,?,?,?,?)" : ",(?,?,?,?,?,?,?)");
+                    args.addAll(Arrays.asList(chunk.get(i)));
+                }
+                sql.append(UPSERT_SUFFIX);
+                sum += jdbcTemplate.update(sql.toString(), args.toArray());
+            }
+            return sum;
+        });
+        return affected == null ? 0 : affected;
+    }
 
-        boolean changed = false;
-        if (entity == null) {
-            reviewRepo.save(TmdbReview.of(r.id(), r.author(), r.content(), rating, r.url(), r.createdAt(), movie));
-            return 1;
-        }
-        if (!Objects.equals(entity.getAuthor(), r.author())) { entity.setAuthor(r.author()); changed = true; }
-        if (!Objects.equals(entity.getContent(), r.content())) { entity.setContent(r.content()); changed = true; }
-        if (!Objects.equals(entity.getRating(), rating))       { entity.setRating(rating);       changed = true; }
-        if (!Objects.equals(entity.getUrl(), r.url()))         { entity.setUrl(r.url());         changed = true; }
-        if (!Objects.equals(entity.getCreatedAtTmdb(), created)) { entity.setCreatedAtTmdb(created); changed = true; }
-        if (entity.getMovie() == null || !Objects.equals(entity.getMovie().getId(), movie.getId())) {
-            entity.setMovie(movie); changed = true;
+    private void collect(List<Object[]> rows, Long movieId, ReviewsPageDto page) {
+        if (page == null || page.results() == null) return;
+        for (ReviewDto r : page.results()) {
+            if (r == null || r.id() == null) continue;
+            Double rating = (r.authorDetails() == null) ? null : r.authorDetails().rating();
+            OffsetDateTime created = safeOffset(r.createdAt());
+            rows.add(new Object[]{
+                    r.id(), r.author(), r.content(), rating, r.url(),
+                    created == null ? null : Timestamp.from(created.toInstant()),
+                    movieId
+            });
         }
-        if (changed) reviewRepo.save(entity);
-        return changed ? 1 : 0;
     }
 
     private OffsetDateTime safeOffset(String iso) {
@@ -0,0 +1,217 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.client.TMDbRateLimiter;
+import com.duck.moodflix.movie.domain.entity.SyncJob;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobStatus;
+import com.duck.moodflix.movie.domain.entity.enums.SyncJobType;
+import com.duck.moodflix.movie.repository.SyncJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * TMDb 동기화를 HTTP 요청 스레드 밖(sync-job 스레드)에서 실행.
+ * - 페이지마다 체크포인트/카운터를 sync_jobs 에 저장 → 실행하던 인스턴스가 죽으면 점유(lease)가 만료된 뒤 다른 인스턴스가 이어서 실행
+ * - 점유는 조건부 UPDATE 로 가져가고 heartbeat/페이지마다 연장 → 같은 잡을 두 인스턴스가 돌리지 않음
+ * - 취소는 DB 플래그로 요청하고, 실행 중인 인스턴스가 페이지 경계에서 DB 에서 다시 읽어 반영
+ * - 클러스터에서 동시에 1개 잡만 허용 (sync_jobs.active_slot unique)
+ */
+@Service
+@Slf4j
+public class SyncJobService {
+
+    /** heartbeat 는 @Scheduled 스레드에서 갱신 → 다른 예약 작업에 밀려도 만료되지 않도록 넉넉히 */
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final SyncJobRepository jobRepository;
+    private final MovieSyncService syncService;
+    private final TMDbRateLimiter rateLimiter;
+    private final ExecutorService jobExecutor;
+    /** 이 인스턴스 식별자 (재시작하면 바뀜 → 이전 실행의 점유는 만료로만 풀림) */
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName()
+            + "/" + UUID.randomUUID().toString().substring(0, 8);
+    /** 이 인스턴스에서 실행 중인 잡 id (heartbeat 대상) */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public SyncJobService(SyncJobRepository jobRepository,
+                          MovieSyncService syncService,
+                          TMDbRateLimiter rateLimiter,
+                          @Qualifier("syncJobExecutor") ExecutorService jobExecutor) {
+        this.jobRepository = jobRepository;
+        this.syncService = syncService;
+        this.rateLimiter = rateLimiter;
+        this.jobExecutor = jobExecutor;
+    }
+
+    public synchronized SyncJob startPopular() {
+        return start(SyncJob.builder()
+                .type(SyncJobType.POPULAR)
+                .status(SyncJobStatus.RUNNING)
+                .build());
+    }
+
+    public synchronized SyncJob startDiscover(int fromYear, int toYear) {
+        int start = Math.min(fromYear, toYear);
+        return start(SyncJob.builder()
+                .type(SyncJobType.DISCOVER)
+                .status(SyncJobStatus.RUNNING)
+                .fromYear(start)
+                .toYear(Math.max(fromYear, toYear))
+                .nextYear(start)
+                .build());
+    }
+
+    public synchronized SyncJob startChanges() {
+        return start(SyncJob.builder()
+                .type(SyncJobType.CHANGES)
+                .status(SyncJobStatus.RUNNING)
+                .build());
+    }
+
+    public SyncJob get(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sync job not found: " + id));
+    }
+
+    public List<SyncJob> recent() {
+        return jobRepository.findTop20ByOrderByIdDesc();
+    }
+
+    /** 취소 요청: 실행 중인 인스턴스가 현재 페이지 처리 후 중단 */
+    public SyncJob cancel(Long id) {
+        SyncJob job = get(id);
+        if (job.getStatus() != SyncJobStatus.RUNNING) return job;
+        jobRepository.markCancelRequested(id);
+        job.setCancelRequested(true);
+        return job;
+    }
+
+    /** 기동 시 점유가 만료된(실행하던 인스턴스가 죽은) RUNNING 잡을 체크포인트부터 재개 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        resumeExpired();
+    }
+
+    /** 실행 중인 잡의 점유 연장 + 다른 인스턴스가 놓친 잡 이어받기 */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    public void heartbeat() {
+        try {
+            LocalDateTime until = LocalDateTime.now().plus(LEASE);
+            for (Long id : running) jobRepository.extendLease(id, instanceId, until);
+            resumeExpired();
+        } catch (Exception e) {
+            log.warn("[SyncJob] heartbeat failed: {}", e.toString());
+        }
+    }
+
+    private void resumeExpired() {
+        for (SyncJob candidate : jobRepository.findByStatus(SyncJobStatus.RUNNING)) {
+            if (running.contains(candidate.getId())) continue;
+            LocalDateTime now = LocalDateTime.now();
+            if (jobRepository.claim(candidate.getId(), instanceId, now, now.plus(LEASE)) == 0) continue;
+
+            SyncJob job = get(candidate.getId()); // 가져간 뒤 최신 체크포인트로
+            if (job.isCancelRequested()) {
+                job.finish(SyncJobStatus.CANCELLED, null);
+                jobRepository.save(job);
+                continue;
+            }
+            log.info("[SyncJob] resume id={} type={} nextYear={} nextPage={} (previous owner lease expired)",
+                    job.getId(), job.getType(), job.getNextYear(), job.getNextPage());
+            submit(job);
+        }
+    }
+
+    private SyncJob start(SyncJob job) {
+        if (jobRepository.existsByStatus(SyncJobStatus.RUNNING)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another sync job is already running");
+        }
+        job.setActiveSlot(SyncJob.ACTIVE);
+        job.setOwner(instanceId);
+        job.setLeaseUntil(LocalDateTime.now().plus(LEASE));
+        SyncJob saved;
+        try {
+            saved = jobRepository.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            // existsByStatus 확인과 INSERT 사이에 다른 요청/인스턴스가 먼저 시작
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another sync job is already running");
+        }
+        log.info("[SyncJob] start id={} type={} owner={}", saved.getId(), saved.getType(), instanceId);
+        submit(saved);
+        return saved;
+    }
+
+    private void submit(SyncJob job) {
+        running.add(job.getId());
+        try {
+            jobExecutor.submit(() -> run(job));
+        } catch (RuntimeException e) {
+            running.remove(job.getId()); // 점유는 만료 후 다른 인스턴스가 이어받음
+            throw e;
+        }
+    }
+
+    private void run(SyncJob job) {
+        Long id = job.getId();
+        long[] lastCalls = {rateLimiter.issuedRequests()};
+        long[] lastTick = {System.currentTimeMillis()};
+        boolean[] lost = {false};
+
+        MovieSyncService.PageListener listener = (stats, nextYear, nextPage) -> {
+            // 점유를 잃었으면(오래 멈춰 다른 인스턴스가 이어받음) 체크포인트를 쓰지 않고 손을 뗌
+            if (jobRepository.extendLease(id, instanceId, LocalDateTime.now().plus(LEASE)) == 0) {
+                lost[0] = true;
+                return false;
+            }
+            long calls = rateLimiter.issuedRequests();
+            long now = System.currentTimeMillis();
+            job.record(stats, calls - lastCalls[0], now - lastTick[0], nextYear, nextPage);
+            lastCalls[0] = calls;
+            lastTick[0] = now;
+
+            // 취소는 다른 인스턴스에서 요청될 수 있으므로 메모리 값이 아니라 DB 에서 확인
+            boolean cancel = jobRepository.isCancelRequested(id);
+            if (cancel) job.setCancelRequested(true);
+            jobRepository.save(job);
+            return !cancel;
+        };
+
+        try {
+            switch (job.getType()) {
+                case POPULAR -> syncService.syncAllPopular(job.getNextPage(), listener);
+                case DISCOVER -> syncService.syncDiscoverByYearRange(
+                        job.getFromYear(), job.getToYear(), job.getNextYear(), job.getNextPage(), listener);
+                case CHANGES -> syncService.syncChanges(listener);
+            }
+            boolean cancelled = job.isCancelRequested() || jobRepository.isCancelRequested(id);
+            job.finish(cancelled ? SyncJobStatus.CANCELLED : SyncJobStatus.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("[SyncJob] failed id={}, err={}", id, e.toString(), e);
+            job.finish(SyncJobStatus.FAILED, e.toString());
+        } finally {
+            running.remove(id);
+        }
+        if (lost[0] || jobRepository.extendLease(id, instanceId, LocalDateTime.now().plus(LEASE)) == 0) {
+            log.warn("[SyncJob] id={} lease lost to another instance; stopped without finishing", id);
+            return;
+        }
+        jobRepository.save(job);
+        log.info("[SyncJob] {} id={} processed={} saved={}",
+                job.getStatus(), id, job.getProcessedCount(), job.getSavedCount());
+    }
+}
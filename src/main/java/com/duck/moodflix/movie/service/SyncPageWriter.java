@@ -0,0 +1,146 @@
+package com.duck.moodflix.movie.service;
+
+import com.duck.moodflix.movie.domain.entity.Movie;
+import com.duck.moodflix.movie.dto.tmdb.TMDbMovieDetailDto;
+import com.duck.moodflix.movie.mapper.MovieMapper;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동기화 페이지 단위 일괄 쓰기 (한 트랜잭션).
+ * - movies: 시퀀스(pooled) ID + hibernate.jdbc.batch_size 로 배치 INSERT
+ * - movie_keywords: 다중 행 INSERT IGNORE
+ * - tmdb_reviews: 다중 행 INSERT ... ON DUPLICATE KEY UPDATE
+ * - 상세 스냅샷은 페이지 커밋 뒤 영화마다 별도 트랜잭션 (writeSnapshots) → 스냅샷 실패가 영화 저장을 되돌리지 않음
+ * - index_outbox: 스냅샷 단계 뒤 저장된 영화 id 를 한 번에 적재 (출연진 이름까지 색인, ES 색인은 워커가 비동기로)
+ * - 메트릭: moodflix.sync.rows{table=...} (rate = rows/sec), moodflix.sync.page.write
+ */
+@Service
+@Slf4j
+public class SyncPageWriter {
+
+    /** 필터를 통과해 저장할 영화 1건 (TMDb 조회 결과) */
+    public record PendingMovie(TMDbMovieDetailDto detail, String enOverview, ReviewSyncService.FetchedReviews reviews) {}
+
+    private final MovieRepository movieRepository;
+    private final MovieMapper movieMapper;
+    private final KeywordManager keywordManager;
+    private final ReviewSyncService reviewSyncService;
+    private final MovieSnapshotService snapshotService;
+    private final IndexOutboxService indexOutbox;
+    private final TransactionTemplate tx;
+
+    private final Counter movieRows;
+    private final Counter keywordRows;
+    private final Counter reviewRows;
+    private final Timer writeTimer;
+
+    public SyncPageWriter(MovieRepository movieRepository,
+                          MovieMapper movieMapper,
+                          KeywordManager keywordManager,
+                          ReviewSyncService reviewSyncService,
+                          MovieSnapshotService snapshotService,
+                          IndexOutboxService indexOutbox,
+                          TransactionTemplate tx,
+                          MeterRegistry registry) {
+        this.movieRepository = movieRepository;
+        this.movieMapper = movieMapper;
+        this.keywordManager = keywordManager;
+        this.reviewSyncService = reviewSyncService;
+        this.snapshotService = snapshotService;
+        this.indexOutbox = indexOutbox;
+        this.tx = tx;
+        this.movieRows = rows(registry, "movies");
+        this.keywordRows = rows(registry, "movie_keywords");
+        this.reviewRows = rows(registry, "tmdb_reviews");
+        this.writeTimer = Timer.builder("moodflix.sync.page.write")
+                .description("동기화 페이지 일괄 쓰기 시간")
+                .register(registry);
+    }
+
+    /** 페이지의 영화/키워드 링크/리뷰를 한 트랜잭션으로 저장. 저장된 Movie 반환(입력 순서 유지), 색인 적재는 writeSnapshots 에서 */
+    @Transactional
+    public List<Movie> write(List<PendingMovie> items) {
+        if (items == null || items.isEmpty()) return List.of();
+        long start = System.nanoTime();
+
+        // 1) movies: persist 시점에 시퀀스에서 ID 확보 → flush 에서 배치 INSERT
+        List<Movie> movies = new ArrayList<>(items.size());
+        for (PendingMovie p : items) movies.add(movieMapper.toEntity(p.detail(), p.enOverview()));
+        movieRepository.saveAll(movies);
+        movieRepository.flush(); // 아래 JDBC 쓰기의 FK 대상 먼저 반영
+
+        // 2) 키워드 링크 / 리뷰: 페이지 전체를 다중 행 문장으로
+        Map<Long, List<String>> keywords = new LinkedHashMap<>();
+        Map<Long, ReviewSyncService.FetchedReviews> reviews = new LinkedHashMap<>();
+        for (int i = 0; i < movies.size(); i++) {
+            Long movieId = movies.get(i).getId();
+            keywords.put(movieId, keywordNames(items.get(i).detail()));
+            reviews.put(movieId, items.get(i).reviews());
+        }
+        int links = keywordManager.linkAll(keywords);
+        int reviewAffected = reviewSyncService.saveAll(reviews);
+
+        long nanos = System.nanoTime() - start;
+        writeTimer.record(nanos, TimeUnit.NANOSECONDS);
+        movieRows.increment(movies.size());
+        keywordRows.increment(links);
+        reviewRows.increment(reviewAffected);
+
+        double secs = Math.max(nanos / 1e9, 1e-3);
+        log.info("page write: movies={}, keywordLinks={}, reviews={} in {}ms ({} rows/s)",
+                movies.size(), links, reviewAffected, nanos / 1_000_000,
+                Math.round((movies.size() + links + reviewAffected) / secs));
+        return movies;
+    }
+
+    /**
+     * (커밋 이후) 상세 스냅샷을 영화마다 별도 트랜잭션으로 저장, 실패한 영화는 건너뛰고 성공 수 반환.
+     * 이후 영화 전체를 색인 대기열에 한 번 적재 → 출연진 이름이 검색 행/색인에 들어가고, 스냅샷이 실패한 영화도 색인됨.
+     * (적재 전에 죽으면 기동 시 대조(IndexReconcileService)가 빠진 문서를 채움)
+     */
+    public int writeSnapshots(List<Movie> movies, List<TMDbMovieDetailDto> details) {
+        int written = 0;
+        for (int i = 0; i < movies.size(); i++) {
+            Movie movie = movies.get(i);
+            TMDbMovieDetailDto d = details.get(i);
+            try {
+                tx.executeWithoutResult(status -> snapshotService.write(movie, d));
+                written++;
+            } catch (Exception e) {
+                log.warn("snapshot write failed, movie kept. tmdbId={}, err={}", movie.getTmdbId(), e.toString());
+            }
+        }
+        indexOutbox.enqueue(movies.stream().map(Movie::getId).toList());
+        return written;
+    }
+
+    static List<String> keywordNames(TMDbMovieDetailDto d) {
+        return (d.getKeywords() == null || d.getKeywords().keywords() == null)
+                ? List.of()
+                : d.getKeywords().keywords().stream()
+                .map(k -> k.name()).filter(Objects::nonNull)
+                .map(String::trim).filter(s -> !s.isEmpty())
+                .distinct().toList();
+    }
+
+    private static Counter rows(MeterRegistry registry, String table) {
+        return Counter.builder("moodflix.sync.rows")
+                .description("동기화로 쓴 행 수")
+                .tag("table", table)
+                .register(registry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.duck.moodflix.movie.service;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/** 동기화 집계: 저장 수 + 스킵 사유별 카운트 (페이지 단위로 만들고 잡 단위로 합산) */
+@Getter
+public class SyncStats {
+
+    /** NOT_TRACKED: 변경 피드에 있으나 카탈로그(DB)에 없는 영화 (증분 동기화 전용) */
+    public enum SkipReason { EXIST, ADULT, NO_KO, NO_OVERVIEW, META_MISSING, ERROR, NOT_TRACKED }
+
+    private int saved;
+    private final Map<SkipReason, Integer> skips = new EnumMap<>(SkipReason.class);
+
+    public void saved() { saved++; }
+
+    public void skip(SkipReason reason) { skips.merge(reason, 1, Integer::sum); }
+
+    public int skipped(SkipReason reason) { return skips.getOrDefault(reason, 0); }
+
+    /** 처리한 전체 건수 (저장 + 스킵) */
+    public int total() { return saved + skips.values().stream().mapToInt(Integer::intValue).sum(); }
+
+    public void add(SyncStats other) {
+        if (other == null) return;
+        saved += other.saved;
+        other.skips.forEach((r, c) -> skips.merge(r, c, Integer::sum));
+    }
+
+    /** 기존 로그 포맷 유지: saved=, exist=, adult=, noKo=, noOverview=, metaMissing=, error= (+ notTracked=) */
+    public String summary() {
+        String base = "saved=" + saved
+                + ", exist=" + skipped(SkipReason.EXIST)
+                + ", adult=" + skipped(SkipReason.ADULT)
+                + ", noKo=" + skipped(SkipReason.NO_KO)
+                + ", noOverview=" + skipped(SkipReason.NO_OVERVIEW)
+                + ", metaMissing=" + skipped(SkipReason.META_MISSING)
+                + ", error=" + skipped(SkipReason.ERROR);
+        int notTracked = skipped(SkipReason.NOT_TRACKED);
+        return notTracked == 0 ? base : base + ", notTracked=" + notTracked;
+    }
+}
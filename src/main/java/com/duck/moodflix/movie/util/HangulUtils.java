@@ -1,29 +1,155 @@
 package com.duck.moodflix.movie.util;
 
+/**
+ * 한글 초성/자모 유틸. 검색 요청마다, 색인 문서마다 호출되므로 정규식/중간 복사 없이 인덱스 루프로 처리.
+ * - 자모 입력은 호환 자모(ㄱ U+3131~)로 통일: 조합형 초성(ᄀ U+1100~, NFKC 결과)과 반각 자음(ﾡ U+FFA1~)도 같은 값으로 취급
+ * - 코드 포인트 단위 처리 (보조 평면 문자도 깨지지 않음)
+ */
 public final class HangulUtils {
     private HangulUtils(){}
 
     private static final char HANGUL_BASE = 0xAC00, HANGUL_END = 0xD7A3;
     private static final int JUNG = 21, JONG = 28;
     private static final char[] CHO = {'ㄱ','ㄲ','ㄴ','ㄷ','ㄸ','ㄹ','ㅁ','ㅂ','ㅃ','ㅅ','ㅆ','ㅇ','ㅈ','ㅉ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'};
+    private static final char[] JONG_COMPAT = {0,'ㄱ','ㄲ','ㄳ','ㄴ','ㄵ','ㄶ','ㄷ','ㄹ','ㄺ','ㄻ','ㄼ','ㄽ','ㄾ','ㄿ','ㅀ',
+            'ㅁ','ㅂ','ㅄ','ㅅ','ㅆ','ㅇ','ㅈ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'};
 
+    /** 호환 자음 범위 (기존 [ㄱ-ㅎ] 와 같음) */
+    private static final char COMPAT_CONSONANT_FIRST = 0x3131, COMPAT_CONSONANT_LAST = 0x314E;
+    private static final char COMPAT_VOWEL_FIRST = 0x314F, COMPAT_JAMO_LAST = 0x318E;
+    /** 조합형 초성 ᄀ~ᄒ (CHO 순서와 같음) */
+    private static final char CONJOINING_CHO_FIRST = 0x1100, CONJOINING_CHO_LAST = 0x1112;
+    /** 반각 자음 ﾡ~ﾾ → 호환 자음 (같은 순서로 연속, 반각 모음은 중간에 빈 칸이 있어 제외) */
+    private static final char HALFWIDTH_CONSONANT_FIRST = 0xFFA1, HALFWIDTH_CONSONANT_LAST = 0xFFBE;
+
+    /** 제목 → 초성 키: 음절은 초성으로, 그 외 글자/숫자는 소문자로, 공백/기호는 버림 */
     public static String toChoseongKey(String s) {
-        if (s == null || s.isBlank()) return "";
+        if (s == null || s.isEmpty()) return "";
         StringBuilder sb = new StringBuilder(s.length());
-        for (char ch : s.toCharArray()) {
+        appendChoseongKey(s, sb);
+        return sb.toString();
+    }
+
+    /** 호출 쪽 버퍼에 초성 키를 이어 붙임 (반복 호출 시 버퍼 재사용 가능) */
+    public static void appendChoseongKey(CharSequence s, StringBuilder out) {
+        int len = s.length();
+        for (int i = 0; i < len; ) {
+            char ch = s.charAt(i);
+            if (ch >= HANGUL_BASE && ch <= HANGUL_END) {
+                out.append(CHO[(ch - HANGUL_BASE) / (JUNG * JONG)]);
+                i++;
+                continue;
+            }
+            char jamo = toCompatJamo(ch);
+            if (jamo != 0) {
+                out.append(jamo);
+                i++;
+                continue;
+            }
+            int cp = Character.codePointAt(s, i);
+            if (Character.isLetterOrDigit(cp)) out.appendCodePoint(Character.toLowerCase(cp));
+            i += Character.charCount(cp);
+        }
+    }
+
+    /** 앞뒤 공백을 뺀 나머지가 전부 자음(호환/조합형/반각)인지 */
+    public static boolean isChoseongQuery(String q) {
+        if (q == null) return false;
+        int from = firstNonSpace(q), to = lastNonSpace(q);
+        if (from > to) return false;
+        for (int i = from; i <= to; i++) {
+            if (!isConsonant(q.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /** 자음과 완성 음절이 섞인 질의 ("ㄱ세") - 공백 허용, 자음 1개 이상 + 음절 1개 이상 */
+    public static boolean isMixedChoseongQuery(String q) {
+        if (q == null) return false;
+        boolean consonant = false, syllable = false;
+        for (int i = 0; i < q.length(); i++) {
+            char ch = q.charAt(i);
+            if (isConsonant(ch)) consonant = true;
+            else if (ch >= HANGUL_BASE && ch <= HANGUL_END) syllable = true;
+            else if (!Character.isWhitespace(ch)) return false;
+        }
+        return consonant && syllable;
+    }
+
+    /**
+     * text 의 from 위치부터가 query(자음/음절 혼합)와 접두 일치하는지.
+     * 공백/기호는 양쪽 모두 건너뜀 (초성 키와 같은 규칙). 자음은 음절의 초성과, 음절은 같은 음절과 비교.
+     */
+    public static boolean matchesChoseongPrefix(CharSequence text, int from, CharSequence query) {
+        int t = from, q = 0;
+        int tl = text.length(), ql = query.length();
+        while (q < ql) {
+            char qc = query.charAt(q);
+            if (!isKeyChar(qc)) { q++; continue; }
+            while (t < tl && !isKeyChar(text.charAt(t))) t++;
+            if (t >= tl) return false;
+            char tc = text.charAt(t);
+            char qj = toCompatJamo(qc);
+            if (qj != 0) {
+                char tj = (tc >= HANGUL_BASE && tc <= HANGUL_END) ? CHO[(tc - HANGUL_BASE) / (JUNG * JONG)] : toCompatJamo(tc);
+                if (tj != qj) return false;
+            } else if (Character.toLowerCase(tc) != Character.toLowerCase(qc)) {
+                return false;
+            }
+            t++;
+            q++;
+        }
+        return true;
+    }
+
+    /** 음절을 호환 자모열로 분해 ("강" → "ㄱㅏㅇ"). 음절이 아닌 문자는 자모 통일만 하고 그대로 */
+    public static String decompose(CharSequence s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
             if (ch >= HANGUL_BASE && ch <= HANGUL_END) {
                 int idx = ch - HANGUL_BASE;
-                int ci = idx / (JUNG * JONG);
-                sb.append(CHO[ci]);
-            } else if (Character.isLetterOrDigit(ch)) {
-                sb.append(Character.toLowerCase(ch));
+                sb.append(CHO[idx / (JUNG * JONG)]);
+                sb.append((char) (COMPAT_VOWEL_FIRST + (idx % (JUNG * JONG)) / JONG));
+                char jong = JONG_COMPAT[idx % JONG];
+                if (jong != 0) sb.append(jong);
+            } else {
+                char jamo = toCompatJamo(ch);
+                sb.append(jamo != 0 ? jamo : ch);
             }
         }
         return sb.toString();
     }
 
-    public static boolean isChoseongQuery(String q) {
-        return q != null && !q.isBlank() && q.trim().matches("^[ㄱ-ㅎ]+$");
+    /** 호환 자모/조합형 초성/반각 자음 → 호환 자모, 자모가 아니면 0 */
+    public static char toCompatJamo(char ch) {
+        if (ch >= COMPAT_CONSONANT_FIRST && ch <= COMPAT_JAMO_LAST) return ch;
+        if (ch >= CONJOINING_CHO_FIRST && ch <= CONJOINING_CHO_LAST) return CHO[ch - CONJOINING_CHO_FIRST];
+        if (ch >= HALFWIDTH_CONSONANT_FIRST && ch <= HALFWIDTH_CONSONANT_LAST) {
+            return (char) (COMPAT_CONSONANT_FIRST + (ch - HALFWIDTH_CONSONANT_FIRST));
+        }
+        return 0;
     }
-}
 
+    private static boolean isConsonant(char ch) {
+        char j = toCompatJamo(ch);
+        return j >= COMPAT_CONSONANT_FIRST && j <= COMPAT_CONSONANT_LAST;
+    }
+
+    private static boolean isKeyChar(char ch) {
+        return Character.isLetterOrDigit(ch) || Character.isSurrogate(ch);
+    }
+
+    private static int firstNonSpace(String s) {
+        int i = 0;
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        return i;
+    }
+
+    private static int lastNonSpace(String s) {
+        int i = s.length() - 1;
+        while (i >= 0 && Character.isWhitespace(s.charAt(i))) i--;
+        return i;
+    }
+}
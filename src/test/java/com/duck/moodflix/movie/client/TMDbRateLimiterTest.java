@@ -0,0 +1,93 @@
+package com.duck.moodflix.movie.client;
+
+import com.duck.moodflix.auth.config.TMDbProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TMDbRateLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+    private TMDbRateLimiter limiter;
+
+    /** 초당 10건, 버스트 2, 최저 1건/초 */
+    @BeforeEach
+    void setUp() {
+        TMDbProperties props = new TMDbProperties();
+        props.getRateLimit().setRequestsPerSecond(10);
+        props.getRateLimit().setBurst(2);
+        props.getRateLimit().setMinRequestsPerSecond(1);
+        now = 1_000_000 * MS;
+        limiter = new TMDbRateLimiter(props, new SimpleMeterRegistry(), () -> now);
+    }
+
+    private void advanceMs(long ms) {
+        now += ms * MS;
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders h = new HttpHeaders();
+        h.set(name, value);
+        return h;
+    }
+
+    @Test
+    void steadyRateSpacesCallsAfterBurst() {
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(100 * MS, limiter.reserve());
+        assertEquals(200 * MS, limiter.reserve());
+
+        advanceMs(500); // 빚 2개 갚고 남는 토큰은 버스트(2)에서 잘림
+        assertEquals(2.0, limiter.availablePermits(), 1e-9);
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    void callsReservedDuringPauseAreReleasedOneByOne() {
+        limiter.onThrottled(headers(HttpHeaders.RETRY_AFTER, "2"));
+        assertEquals(5.0, limiter.currentRate(), 1e-9); // 속도 절반
+
+        // 정지 2s 뒤 5건/초 간격으로 순서대로 (모두 2s 에 몰리지 않음)
+        assertEquals(2_200 * MS, limiter.reserve());
+        assertEquals(2_400 * MS, limiter.reserve());
+        assertEquals(2_600 * MS, limiter.reserve());
+
+        advanceMs(1_000); // 정지 중에는 토큰이 차지 않음 → 같은 해제 시각 유지
+        assertEquals(1_800 * MS, limiter.reserve());
+    }
+
+    @Test
+    void pauseDoesNotStallCallsThatStillHaveTokens() {
+        limiter.onResponse(headers("X-RateLimit-Remaining", "0")); // Reset 없으면 기본 1s 정지
+        assertEquals(1_000 * MS, limiter.reserve());
+        assertEquals(1_000 * MS, limiter.reserve()); // 버스트 토큰은 정지 끝나면 바로
+        assertEquals(1_100 * MS, limiter.reserve());
+        assertEquals(10.0, limiter.currentRate(), 1e-9); // 남은 요청 0 은 속도를 낮추지 않음
+    }
+
+    @Test
+    void throttlingHalvesRateDownToMinAndSuccessRecoversGradually() {
+        for (int i = 0; i < 10; i++) limiter.onThrottled(null);
+        assertEquals(1.0, limiter.currentRate(), 1e-9);
+
+        limiter.onResponse(headers("X-RateLimit-Remaining", "39"));
+        assertEquals(1.2, limiter.currentRate(), 1e-9); // 성공마다 최대 속도의 2%
+
+        for (int i = 0; i < 100; i++) limiter.onResponse(new HttpHeaders());
+        assertEquals(10.0, limiter.currentRate(), 1e-9); // 최대 속도에서 멈춤
+    }
+
+    @Test
+    void retryAfterFallsBackToDefaultPauseWhenUnparseable() {
+        limiter.onThrottled(headers(HttpHeaders.RETRY_AFTER, "soon"));
+        assertEquals(1_000 * MS + 200 * MS, limiter.reserve()); // 1s 기본 정지 + 5건/초 첫 순번
+    }
+}
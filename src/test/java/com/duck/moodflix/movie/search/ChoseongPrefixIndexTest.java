@@ -0,0 +1,57 @@
+package com.duck.moodflix.movie.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChoseongPrefixIndexTest {
+
+    private static final String[] TITLES = {"다크 나이트", "기생충", "다크 나이트 라이즈", "나이트 크롤러", ""};
+
+    /** 일치한 (owner, fullTitle) 을 "owner:F" / "owner:W" 로 모음 */
+    private static List<String> hits(ChoseongPrefixIndex index, String prefix) {
+        List<String> out = new ArrayList<>();
+        index.forEachPrefixed(prefix, (owner, full) -> out.add(owner + (full ? ":F" : ":W")));
+        out.sort(null);
+        return out;
+    }
+
+    @Test
+    void keysAreFullTitleThenEachWordStart() {
+        assertEquals(List.of("ㄷㅋㄴㅇㅌ", "ㄴㅇㅌ"), ChoseongPrefixIndex.keys("다크 나이트"));
+        assertEquals(List.of("ㄱㅅㅊ"), ChoseongPrefixIndex.keys("기생충"));
+        assertEquals(List.of("ㄱㄴ"), ChoseongPrefixIndex.keys("- 가나")); // 기호 단어 뒤 키 = 전체 키 → 한 번만
+        assertEquals(List.of(), ChoseongPrefixIndex.keys("  "));
+        assertEquals(List.of(), ChoseongPrefixIndex.keys("!!"));
+        assertEquals(List.of(), ChoseongPrefixIndex.keys(null));
+    }
+
+    @Test
+    void prefixMatchesDistinguishFullTitleFromWordStart() {
+        ChoseongPrefixIndex index = ChoseongPrefixIndex.build(TITLES);
+
+        assertEquals(List.of("0:F", "2:F"), hits(index, "ㄷㅋ"));
+        assertEquals(List.of("0:W", "2:W", "3:F"), hits(index, "ㄴㅇㅌ"));
+        assertEquals(List.of("2:W"), hits(index, "ㄹㅇㅈ"));
+        assertEquals(List.of("1:F"), hits(index, "ㄱㅅㅊ"));
+        assertEquals(List.of(), hits(index, "ㄱㅅㅊㅇ"));
+        assertEquals(List.of(), hits(index, "ㅎ"));
+    }
+
+    @Test
+    void emptyPrefixVisitsEveryKey() {
+        ChoseongPrefixIndex index = ChoseongPrefixIndex.build(TITLES);
+        assertEquals(index.size(), hits(index, "").size());
+        assertEquals(8, index.size()); // 2 + 1 + 3 + 2, 빈 제목은 키 없음
+    }
+
+    @Test
+    void emptyIndex() {
+        ChoseongPrefixIndex index = ChoseongPrefixIndex.build(new String[0]);
+        assertEquals(0, index.size());
+        assertEquals(List.of(), hits(index, "ㄱ"));
+    }
+}
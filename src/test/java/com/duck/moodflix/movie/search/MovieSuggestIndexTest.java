@@ -0,0 +1,174 @@
+package com.duck.moodflix.movie.search;
+
+import com.duck.moodflix.movie.dto.MovieIndexRow;
+import com.duck.moodflix.movie.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class MovieSuggestIndexTest {
+
+    private MovieRepository repo;
+    private MovieSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(MovieRepository.class);
+        index = new MovieSuggestIndex(repo, new SimpleMeterRegistry());
+    }
+
+    private static MovieIndexRow row(long id, String title, double popularity) {
+        return row(id, title, popularity, LocalDateTime.now());
+    }
+
+    private static MovieIndexRow row(long id, String title, double popularity, LocalDateTime updatedAt) {
+        return new MovieIndexRow(id, id + 1000, title, null, null, false, null, popularity, 0.0, updatedAt);
+    }
+
+    private static MovieSuggestIndex.Entry entry(long id, String title, double popularity) {
+        return MovieSuggestIndex.Entry.of(row(id, title, popularity));
+    }
+
+    private List<String> search(String q, int page, int size) {
+        return titles(index.searchChoseong(q, PageRequest.of(page, size)));
+    }
+
+    private static List<String> titles(Page<MovieSuggestIndex.Entry> page) {
+        return page.getContent().stream().map(MovieSuggestIndex.Entry::title).toList();
+    }
+
+    private static List<String> titles(List<MovieSuggestIndex.Entry> entries) {
+        return entries.stream().map(MovieSuggestIndex.Entry::title).toList();
+    }
+
+    @Test
+    void fullTitleMatchesComeBeforeWordStartMatchesAcrossPages() {
+        index.replaceAll(List.of(
+                entry(1, "다크 나이트", 100),
+                entry(2, "어둠의 나이트", 50),
+                entry(3, "나이트메어", 5),
+                entry(4, "나이트 크롤러", 1)));
+        // delta 도 같은 규칙으로 끼어듦: 인기도가 가장 낮아도 제목 맨 앞 일치면 단어 시작 일치보다 앞
+        index.upsert(List.of(row(5, "나이트 워치", 0.5), row(6, "밤의 나이트", 70)));
+
+        List<List<String>> expected = List.of(
+                List.of("나이트메어", "나이트 크롤러"),
+                List.of("나이트 워치", "다크 나이트"),
+                List.of("밤의 나이트", "어둠의 나이트"));
+        for (int p = 0; p < expected.size(); p++) {
+            assertEquals(expected.get(p), search("ㄴㅇㅌ", p, 2));
+            assertEquals(6, index.searchChoseong("ㄴㅇㅌ", PageRequest.of(p, 2)).getTotalElements());
+        }
+
+        index.compact(); // 합친 뒤에도 순서/페이지 동일
+        for (int p = 0; p < expected.size(); p++) {
+            assertEquals(expected.get(p), search("ㄴㅇㅌ", p, 2));
+        }
+        assertEquals(List.of(), search("ㄴㅇㅌ", 3, 2));
+    }
+
+    @Test
+    void deltaEntryOverridesSnapshotCopy() {
+        index.replaceAll(List.of(entry(1, "가나", 10), entry(2, "가다", 20)));
+        assertEquals(List.of("가다", "가나"), search("ㄱ", 0, 10));
+
+        index.upsert(List.of(row(1, "가나", 30)));
+        Page<MovieSuggestIndex.Entry> page = index.searchChoseong("ㄱ", PageRequest.of(0, 10));
+        assertEquals(List.of("가나", "가다"), titles(page));
+        assertEquals(30.0, page.getContent().get(0).popularity(), 1e-9); // 스냅샷의 옛 값이 아님
+        assertEquals(2, page.getTotalElements()); // 같은 영화가 두 번 나오지 않음
+
+        // 제목 맨 앞 일치 → 단어 시작 일치로 바뀌면 인기도가 높아도 뒤로
+        index.upsert(List.of(row(1, "하 가나", 30)));
+        assertEquals(List.of("가다", "하 가나"), search("ㄱ", 0, 10));
+
+        // 더 이상 일치하지 않게 바뀐 항목은 스냅샷 쪽 값으로도 나오지 않음
+        index.upsert(List.of(row(2, "하늘", 20)));
+        assertEquals(List.of("하 가나"), search("ㄱ", 0, 10));
+        assertEquals(List.of("하 가나"), titles(index.suggest("가", 10)));
+
+        index.compact();
+        assertEquals(List.of("하 가나"), search("ㄱ", 0, 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void removedEntriesAreHiddenBeforeAndAfterCompact() {
+        index.replaceAll(List.of(entry(1, "가나", 10), entry(2, "가다", 20)));
+        index.remove(List.of(1L));
+
+        assertEquals(List.of("가다"), search("ㄱ", 0, 10));
+        assertEquals(1, index.searchChoseong("ㄱ", PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(List.of("가다"), titles(index.suggest("가", 10)));
+        assertEquals(List.of("가다"), titles(index.suggest("ㄱ", 10)));
+
+        index.compact();
+        assertEquals(1, index.size());
+        assertEquals(List.of("가다"), search("ㄱ", 0, 10));
+    }
+
+    @Test
+    void replaceAllKeepsChangesThatArrivedDuringLoad() {
+        assertFalse(index.isLoaded());
+        index.upsert(List.of(row(3, "가람", 5)));
+        index.remove(List.of(2L));
+
+        index.replaceAll(List.of(entry(1, "가나", 10), entry(2, "가다", 20)));
+
+        assertTrue(index.isLoaded());
+        assertEquals(2, index.size());
+        assertEquals(List.of("가나", "가람"), search("ㄱ", 0, 10));
+    }
+
+    @Test
+    void mixedQueryMatchesSyllablesAfterChoseong() {
+        index.replaceAll(List.of(
+                entry(1, "신 고세계", 99),
+                entry(2, "기생충", 50),  // 초성 키(ㄱㅅ)는 맞지만 '생' ≠ '세'
+                entry(3, "가세요", 1)));
+        index.upsert(List.of(row(4, "구세주", 10)));
+
+        assertEquals(List.of("구세주", "가세요", "신 고세계"), search("ㄱ세", 0, 10));
+        assertEquals(List.of("구세주", "가세요"), search("ㄱ세", 0, 2));
+        assertEquals(List.of("신 고세계"), search("ㄱ세", 1, 2));
+        assertEquals(List.of("신 고세계", "구세주", "가세요"), titles(index.suggest("ㄱ세", 10)));
+        assertEquals(List.of("기생충"), search("ㄱ생", 0, 10));
+    }
+
+    @Test
+    void catchUpFromDbAppliesRowsUpdatedAfterWatermark() {
+        index.catchUpFromDb(); // 적재 전에는 DB 조회 안 함
+        verifyNoInteractions(repo);
+
+        when(repo.findIndexRowsAfter(anyLong(), any())).thenReturn(List.of(row(1, "가나", 10), row(2, "가다", 20)));
+        index.loadOnStartup();
+        assertEquals(List.of("가다", "가나"), search("ㄱ", 0, 10));
+
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<LocalDateTime> since = new ArrayList<>();
+        when(repo.findIndexRowsUpdatedAfter(any(), anyLong(), any())).thenAnswer(inv -> {
+            since.add(inv.getArgument(0));
+            return since.size() == 1
+                    ? List.of(row(1, "가나", 30, changedAt), row(3, "가람", 5, changedAt))
+                    : List.of();
+        });
+
+        index.catchUpFromDb();
+        assertEquals(List.of("가나", "가다", "가람"), search("ㄱ", 0, 10));
+
+        // 다음 따라잡기는 가장 최근 updated_at 에서 겹침 구간(2분)만큼 앞부터
+        index.catchUpFromDb();
+        assertEquals(changedAt.minusMinutes(2), since.get(1));
+    }
+}
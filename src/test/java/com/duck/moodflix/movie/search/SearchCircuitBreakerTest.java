@@ -0,0 +1,171 @@
+package com.duck.moodflix.movie.search;
+
+import com.duck.moodflix.movie.config.SearchBreakerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCircuitBreakerTest {
+
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    /** 창 4건, 4건 쌓여야 판단, 실패율 50% 이상이면 열림, 50ms 뒤 반열림, 시험 호출 2건 */
+    private SearchBreakerProperties props() {
+        SearchBreakerProperties p = new SearchBreakerProperties();
+        p.setWindowSize(4);
+        p.setMinCalls(4);
+        p.setFailureRateThreshold(50);
+        p.setSlowCallThreshold(Duration.ofSeconds(5));
+        p.setSlowCallRateThreshold(100);
+        p.setCallTimeout(Duration.ofSeconds(1));
+        p.setOpenDuration(Duration.ofMillis(50));
+        p.setHalfOpenProbes(2);
+        p.setMaxConcurrent(2);
+        return p;
+    }
+
+    private SearchCircuitBreaker breaker(SearchBreakerProperties p) {
+        int max = p.getMaxConcurrent();
+        executor = new ThreadPoolExecutor(max, max, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>()); // esSearchExecutor 와 같은 구성
+        return new SearchCircuitBreaker(p, executor, new SimpleMeterRegistry());
+    }
+
+    private static void succeed(SearchCircuitBreaker b) {
+        assertEquals("ok", b.call(() -> "ok"));
+    }
+
+    private static void fail(SearchCircuitBreaker b) {
+        assertThrows(SearchUnavailableException.class, () -> b.call(() -> {
+            throw new IllegalStateException("es down");
+        }));
+    }
+
+    private static void awaitOpenDuration() throws InterruptedException {
+        Thread.sleep(80);
+    }
+
+    @Test
+    void staysClosedUntilMinCalls() {
+        SearchCircuitBreaker b = breaker(props());
+        fail(b);
+        fail(b);
+        fail(b);
+        assertEquals(SearchCircuitBreaker.State.CLOSED, b.state());
+    }
+
+    @Test
+    void opensAtFailureRateAndShortCircuits() {
+        SearchCircuitBreaker b = breaker(props());
+        succeed(b);
+        succeed(b);
+        fail(b);
+        fail(b);
+        assertEquals(SearchCircuitBreaker.State.OPEN, b.state());
+
+        AtomicBoolean ran = new AtomicBoolean();
+        assertThrows(SearchUnavailableException.class, () -> b.call(() -> ran.getAndSet(true)));
+        assertFalse(ran.get()); // 열린 동안은 ES 를 부르지 않음
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        SearchCircuitBreaker b = breaker(props());
+        succeed(b);
+        succeed(b);
+        succeed(b);
+        fail(b);
+        succeed(b); // 창이 밀려도 실패 1/4
+        assertEquals(SearchCircuitBreaker.State.CLOSED, b.state());
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        SearchBreakerProperties p = props();
+        p.setSlowCallThreshold(Duration.ZERO); // 모든 호출이 느린 호출
+        SearchCircuitBreaker b = breaker(p);
+        for (int i = 0; i < 4; i++) succeed(b); // 느려도 결과는 돌려줌
+        assertEquals(SearchCircuitBreaker.State.OPEN, b.state());
+    }
+
+    @Test
+    void timeoutCountsAsFailure() {
+        SearchBreakerProperties p = props();
+        p.setMinCalls(1);
+        p.setCallTimeout(Duration.ofMillis(30));
+        SearchCircuitBreaker b = breaker(p);
+        assertThrows(SearchUnavailableException.class, () -> b.call(() -> {
+            Thread.sleep(1_000);
+            return "late";
+        }));
+        assertEquals(SearchCircuitBreaker.State.OPEN, b.state());
+    }
+
+    @Test
+    void halfOpenClosesAfterAllProbesSucceed() throws InterruptedException {
+        SearchCircuitBreaker b = breaker(props());
+        for (int i = 0; i < 4; i++) fail(b);
+        assertEquals(SearchCircuitBreaker.State.OPEN, b.state());
+
+        awaitOpenDuration();
+        succeed(b);
+        assertEquals(SearchCircuitBreaker.State.HALF_OPEN, b.state());
+        succeed(b);
+        assertEquals(SearchCircuitBreaker.State.CLOSED, b.state());
+
+        // 닫힌 뒤에는 창이 비어 있어 다시 min-calls 부터
+        fail(b);
+        assertEquals(SearchCircuitBreaker.State.CLOSED, b.state());
+    }
+
+    @Test
+    void halfOpenReopensOnProbeFailure() throws InterruptedException {
+        SearchCircuitBreaker b = breaker(props());
+        for (int i = 0; i < 4; i++) fail(b);
+
+        awaitOpenDuration();
+        succeed(b);
+        fail(b);
+        assertEquals(SearchCircuitBreaker.State.OPEN, b.state());
+    }
+
+    @Test
+    void rejectsBeyondMaxConcurrent() throws Exception {
+        SearchBreakerProperties p = props();
+        p.setMaxConcurrent(1);
+        SearchCircuitBreaker b = breaker(p);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = caller.submit(() -> b.call(() -> {
+                started.countDown();
+                release.await();
+                return "first";
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            AtomicBoolean ran = new AtomicBoolean();
+            assertThrows(SearchUnavailableException.class, () -> b.call(() -> ran.getAndSet(true)));
+            assertFalse(ran.get());
+
+            release.countDown();
+            assertEquals("first", first.get(1, TimeUnit.SECONDS));
+            assertEquals(SearchCircuitBreaker.State.CLOSED, b.state()); // 거절은 창에 기록하지 않음
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.duck.moodflix.movie.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovieSearchDocServiceTest {
+
+    @Test
+    void toBooleanQueryQuotesPhraseAndLowercases() {
+        assertEquals("\"dark knight\"", MovieSearchDocService.toBooleanQuery("Dark Knight"));
+        assertEquals("\"기생충\"", MovieSearchDocService.toBooleanQuery("기생충"));
+        assertEquals("\"schindler's list\"", MovieSearchDocService.toBooleanQuery("Schindler's List")); // ' 는 연산자 아님
+    }
+
+    @Test
+    void toBooleanQueryStripsOperatorsAndCollapsesWhitespace() {
+        assertEquals("\"dark knight\"", MovieSearchDocService.toBooleanQuery("  +dark   -knight* "));
+        assertEquals("\"스파이더 맨 2\"", MovieSearchDocService.toBooleanQuery("스파이더-맨 (2)"));
+        assertEquals("\"a b\"", MovieSearchDocService.toBooleanQuery("\"a\"\t~b@"));
+        assertEquals("\"x y\"", MovieSearchDocService.toBooleanQuery("<x>\n<y>"));
+    }
+
+    @Test
+    void toBooleanQueryUsesPrefixWildcardForSingleCharacter() {
+        assertEquals("가*", MovieSearchDocService.toBooleanQuery("가"));
+        assertEquals("x*", MovieSearchDocService.toBooleanQuery(" (X) "));
+        assertEquals("😀*", MovieSearchDocService.toBooleanQuery("😀")); // 서로게이트 쌍도 한 글자
+    }
+
+    @Test
+    void toBooleanQueryReturnsEmptyWhenNothingSearchable() {
+        assertEquals("", MovieSearchDocService.toBooleanQuery(null));
+        assertEquals("", MovieSearchDocService.toBooleanQuery(""));
+        assertEquals("", MovieSearchDocService.toBooleanQuery("   "));
+        assertEquals("", MovieSearchDocService.toBooleanQuery("+-<>()~*\"@"));
+    }
+}
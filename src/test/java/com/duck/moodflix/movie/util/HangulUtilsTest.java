@@ -0,0 +1,92 @@
+package com.duck.moodflix.movie.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulUtilsTest {
+
+    @Test
+    void toChoseongKeyMapsSyllablesAndDropsSymbols() {
+        assertEquals("ㄱㅅㅊparasite", HangulUtils.toChoseongKey("기생충 (Parasite)"));
+        assertEquals("ㅅㅍㅇㄷㅁ2", HangulUtils.toChoseongKey("스파이더-맨 2"));
+        assertEquals("", HangulUtils.toChoseongKey(null));
+        assertEquals("", HangulUtils.toChoseongKey(""));
+    }
+
+    @Test
+    void toChoseongKeyNormalizesConjoiningAndHalfwidthJamo() {
+        assertEquals("ㄱㅅ", HangulUtils.toChoseongKey("ᄀᄉ")); // ᄀᄉ (NFKC 결과)
+        assertEquals("ㄱㅎ", HangulUtils.toChoseongKey("ﾡﾾ")); // ﾡﾾ
+    }
+
+    @Test
+    void appendChoseongKeyAppendsToBuffer() {
+        StringBuilder sb = new StringBuilder("x");
+        HangulUtils.appendChoseongKey("다크 나이트", sb);
+        assertEquals("xㄷㅋㄴㅇㅌ", sb.toString());
+    }
+
+    @Test
+    void isChoseongQueryRequiresOnlyConsonants() {
+        assertTrue(HangulUtils.isChoseongQuery("ㄱㅅㅊ"));
+        assertTrue(HangulUtils.isChoseongQuery("  ㄱㅅㅊ "));
+        assertTrue(HangulUtils.isChoseongQuery("ᄀᄉ"));
+        assertTrue(HangulUtils.isChoseongQuery("ﾡ"));
+        assertFalse(HangulUtils.isChoseongQuery("ㄱ ㅅ"));   // 중간 공백은 허용 안 함
+        assertFalse(HangulUtils.isChoseongQuery("ㄱ세"));
+        assertFalse(HangulUtils.isChoseongQuery("ㅏ"));      // 모음
+        assertFalse(HangulUtils.isChoseongQuery("abc"));
+        assertFalse(HangulUtils.isChoseongQuery("   "));
+        assertFalse(HangulUtils.isChoseongQuery(""));
+        assertFalse(HangulUtils.isChoseongQuery(null));
+    }
+
+    @Test
+    void isMixedChoseongQueryRequiresConsonantAndSyllable() {
+        assertTrue(HangulUtils.isMixedChoseongQuery("ㄱ세"));
+        assertTrue(HangulUtils.isMixedChoseongQuery("ㄷ크 ㄴ이트"));
+        assertFalse(HangulUtils.isMixedChoseongQuery("ㄱㅅ"));
+        assertFalse(HangulUtils.isMixedChoseongQuery("기생충"));
+        assertFalse(HangulUtils.isMixedChoseongQuery("ㄱ세a")); // 라틴 문자 섞이면 일반 검색
+        assertFalse(HangulUtils.isMixedChoseongQuery(null));
+    }
+
+    @Test
+    void matchesChoseongPrefixComparesConsonantsToInitials() {
+        assertTrue(HangulUtils.matchesChoseongPrefix("고세상", 0, "ㄱ세"));
+        assertFalse(HangulUtils.matchesChoseongPrefix("곡성", 0, "ㄱ세"));
+        assertTrue(HangulUtils.matchesChoseongPrefix("기생충", 0, "기ㅅ"));
+        assertFalse(HangulUtils.matchesChoseongPrefix("기생충", 0, "ㄱ생충ㅇ")); // 제목보다 긴 질의
+    }
+
+    @Test
+    void matchesChoseongPrefixHonorsOffsetAndSkipsSymbols() {
+        assertTrue(HangulUtils.matchesChoseongPrefix("다크 나이트", 3, "ㄴ이"));
+        assertFalse(HangulUtils.matchesChoseongPrefix("다크 나이트", 0, "ㄴ이"));
+        assertTrue(HangulUtils.matchesChoseongPrefix("스파이더-맨", 0, "ㅅㅍ이ㄷ맨"));
+        assertTrue(HangulUtils.matchesChoseongPrefix("Parasite", 0, "PA"));
+        assertTrue(HangulUtils.matchesChoseongPrefix("고세상", 0, "ᄀ세")); // 조합형 초성 질의
+    }
+
+    @Test
+    void decomposeSplitsSyllablesIntoCompatJamo() {
+        assertEquals("ㄱㅏㅇ", HangulUtils.decompose("강"));
+        assertEquals("ㄱㅏ", HangulUtils.decompose("가"));
+        assertEquals("ㅎㅣㅎ", HangulUtils.decompose("힣"));
+        assertEquals("ㄱa", HangulUtils.decompose("ᄀa"));
+        assertEquals("", HangulUtils.decompose(null));
+    }
+
+    @Test
+    void toCompatJamoReturnsZeroForNonJamo() {
+        assertEquals('ㄱ', HangulUtils.toCompatJamo('ㄱ'));
+        assertEquals('ㅏ', HangulUtils.toCompatJamo('ㅏ'));
+        assertEquals('ㅎ', HangulUtils.toCompatJamo('ᄒ'));
+        assertEquals('ㄱ', HangulUtils.toCompatJamo('ﾡ'));
+        assertEquals('ㅎ', HangulUtils.toCompatJamo('ﾾ'));
+        assertEquals((char) 0, HangulUtils.toCompatJamo('a'));
+        assertEquals((char) 0, HangulUtils.toCompatJamo('가'));
+        assertEquals((char) 0, HangulUtils.toCompatJamo('ￂ')); // 반각 모음은 대상 아님
+    }
+}